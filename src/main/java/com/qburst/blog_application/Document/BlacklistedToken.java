@@ -2,18 +2,24 @@ package com.qburst.blog_application.Document;
 
 import java.time.Instant;
 
+import lombok.Getter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+@Getter
 @Document(collection = "blacklisted_tokens")
 public class BlacklistedToken {
 
     @Id
     private String id;
 
-    @Indexed(unique = true)
-    private String token;
+    /**
+     * The token's jti (or a digest for tokens without one) rather than the full JWT.
+     * Sparse so documents still awaiting migration do not collide on a missing value.
+     */
+    @Indexed(unique = true, sparse = true)
+    private String tokenId;
 
     /**
      * TTL index – Mongo will auto delete after expiry
@@ -21,9 +27,16 @@ public class BlacklistedToken {
     @Indexed(expireAfter = "0s")
     private Instant expiry;
 
-    public BlacklistedToken(String token, Instant expiry) {
-        this.token = token;
+    /**
+     * Used by application nodes to poll for revocations made elsewhere
+     */
+    @Indexed
+    private Instant revokedAt;
+
+    public BlacklistedToken(String tokenId, Instant expiry) {
+        this.tokenId = tokenId;
         this.expiry = expiry;
+        this.revokedAt = Instant.now();
     }
 
     protected BlacklistedToken() {
@@ -0,0 +1,51 @@
+package com.qburst.blog_application.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Periodic copy of the in-memory trending scores, so the ranking survives a restart.
+ * Scores are stored already decayed to {@code takenAt}.
+ */
+@Getter
+@Document(collection = "trending_snapshots")
+public class TrendingSnapshot {
+
+    @Id
+    private String id;
+
+    private Instant takenAt;
+
+    private List<Entry> entries;
+
+    public TrendingSnapshot(String id, Instant takenAt, List<Entry> entries) {
+        this.id = id;
+        this.takenAt = takenAt;
+        this.entries = entries;
+    }
+
+    protected TrendingSnapshot() {
+
+    }
+
+    @Getter
+    public static class Entry {
+
+        private Long postId;
+
+        private double score;
+
+        public Entry(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+
+        protected Entry() {
+
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.qburst.blog_application.Document;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Per-user "tokens issued before {@code notBefore} are invalid" marker,
+ * written once by "log out everywhere" instead of one blacklist entry per token.
+ */
+@Getter
+@Document(collection = "user_token_watermarks")
+public class UserTokenWatermark {
+
+    @Id
+    private Long userId;
+
+    private Instant notBefore;
+
+    /**
+     * Used by application nodes to poll for watermarks set elsewhere
+     */
+    @Indexed
+    private Instant updatedAt;
+
+    /**
+     * TTL index – once every token issued before the watermark has expired, the marker is useless
+     */
+    @Indexed(expireAfter = "0s")
+    private Instant expiry;
+
+    public UserTokenWatermark(Long userId, Instant notBefore, Instant expiry) {
+        this.userId = userId;
+        this.notBefore = notBefore;
+        this.expiry = expiry;
+        this.updatedAt = Instant.now();
+    }
+
+    protected UserTokenWatermark() {
+
+    }
+}
@@ -0,0 +1,51 @@
+package com.qburst.blog_application.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Background queue for password reset work (OTP generation and mail).
+     * Bounded, so a flood of requests cannot pile up unbounded work; when the queue
+     * is full the request is dropped and logged rather than run on the web thread.
+     */
+    @Bean(name = "passwordResetExecutor")
+    public ThreadPoolTaskExecutor passwordResetExecutor(
+            @Value("${blog.password-reset.executor.pool-size:2}") int poolSize,
+            @Value("${blog.password-reset.executor.queue-capacity:500}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-reset-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Password reset queue is full ({} pending), dropping request", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Single thread for re-rendering stale post HTML. At most one run waits behind the
+     * current one; further triggers are dropped, since a run covers every stale post.
+     */
+    @Bean(name = "postRenderExecutor")
+    public ThreadPoolTaskExecutor postRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("post-render-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.debug("Post re-render already pending, skipping trigger"));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,65 @@
+package com.qburst.blog_application.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Applies the Postgres-specific schema pieces Hibernate's {@code ddl-auto} cannot express
+ * (generated columns, GIN and partial indexes, sequences) from {@code classpath:db/postgres/*.sql}.
+ * <p>
+ * Scripts run in file name order after Hibernate has updated the schema and must be idempotent,
+ * since they run on every startup.
+ */
+@Slf4j
+@Component
+public class DatabaseScriptsInitializer {
+
+    private final DataSource dataSource;
+    private final ResourcePatternResolver resourceResolver;
+    private final boolean enabled;
+
+    // Depending on the EntityManagerFactory makes the scripts run after the schema update
+    public DatabaseScriptsInitializer(DataSource dataSource,
+                                      ResourcePatternResolver resourceResolver,
+                                      EntityManagerFactory entityManagerFactory,
+                                      @Value("${blog.db.scripts.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.resourceResolver = resourceResolver;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void apply() throws Exception {
+        if (!enabled || !isPostgres()) {
+            log.info("Skipping Postgres schema scripts");
+            return;
+        }
+
+        Resource[] scripts = resourceResolver.getResources("classpath*:db/postgres/*.sql");
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+
+        for (Resource script : scripts) {
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(script);
+            populator.setSqlScriptEncoding("UTF-8");
+            populator.execute(dataSource);
+            log.info("Applied schema script {}", script.getFilename());
+        }
+    }
+
+    private boolean isPostgres() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+}
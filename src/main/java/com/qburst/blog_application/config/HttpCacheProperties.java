@@ -0,0 +1,46 @@
+package com.qburst.blog_application.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+/**
+ * {@code Cache-Control} policies of the read endpoints, keyed by endpoint name
+ * ({@code blog.http-cache.endpoints.<name>}). Endpoints without a policy are sent
+ * {@code no-cache, private}: clients may keep them but must revalidate every use.
+ */
+@ConfigurationProperties(prefix = "blog.http-cache")
+public record HttpCacheProperties(Map<String, Policy> endpoints) {
+
+    public HttpCacheProperties {
+        endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+    }
+
+    public CacheControl cacheControl(String endpoint) {
+        Policy policy = endpoints.get(endpoint);
+        return policy != null ? policy.toCacheControl() : CacheControl.noCache().cachePrivate();
+    }
+
+    /**
+     * @param maxAge               how long a response is reused without revalidation; zero means revalidate every time
+     * @param sharedCaches         whether CDNs and proxies may store the response, not only the client
+     * @param staleWhileRevalidate how long a stale response may still be served while it is revalidated
+     */
+    public record Policy(Duration maxAge, boolean sharedCaches, Duration staleWhileRevalidate) {
+
+        CacheControl toCacheControl() {
+            CacheControl cacheControl = maxAge == null || maxAge.isZero()
+                    ? CacheControl.noCache()
+                    : CacheControl.maxAge(maxAge);
+
+            cacheControl = sharedCaches ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+
+            if (staleWhileRevalidate != null && !staleWhileRevalidate.isZero()) {
+                cacheControl = cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+            }
+            return cacheControl;
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package com.qburst.blog_application.config;
 
 import com.qburst.blog_application.security.KeyLoader;
+import com.qburst.blog_application.service.jwt.JwtAlgorithm;
+import com.qburst.blog_application.service.jwt.SigningKey;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.security.PrivateKey;
-import java.security.PublicKey;
-
 @Configuration
 public class JwtKeyConfig {
 
+    /**
+     * The key pair configured under {@code blog.jwt.signing}, loaded from {@code classpath:keys/}.
+     * Defaults to the existing RSA pair so current tokens keep verifying.
+     */
     @Bean
-    public PrivateKey privateKey() throws Exception {
-        return KeyLoader.loadPrivateKey("private.pem");
-    }
+    public SigningKey configuredSigningKey(
+            @Value("${blog.jwt.signing.algorithm:RS256}") JwtAlgorithm algorithm,
+            @Value("${blog.jwt.signing.private-key:private.pem}") String privateKeyFile,
+            @Value("${blog.jwt.signing.public-key:public.pem}") String publicKeyFile) throws Exception {
 
-    @Bean
-    public PublicKey publicKey() throws Exception {
-        return KeyLoader.loadPublicKey("public.pem");
+        return SigningKey.of(
+                algorithm,
+                KeyLoader.loadPrivateKey(privateKeyFile, algorithm.getKeyAlgorithm()),
+                KeyLoader.loadPublicKey(publicKeyFile, algorithm.getKeyAlgorithm())
+        );
     }
 }
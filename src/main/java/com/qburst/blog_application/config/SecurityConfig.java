@@ -1,5 +1,6 @@
 package com.qburst.blog_application.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,13 +11,18 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.qburst.blog_application.security.CustomAuthEntryPoint;
 import com.qburst.blog_application.security.JwtFilter;
+import com.qburst.blog_application.security.MeteredPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
@@ -25,11 +31,14 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
 
     public SecurityConfig(JwtFilter jwtFilter,
-                          UserDetailsService userDetailsService) {
+                          UserDetailsService userDetailsService,
+                          UserDetailsPasswordService userDetailsPasswordService) {
         this.jwtFilter = jwtFilter;
         this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
     }
 
     /**
@@ -56,6 +65,10 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/auth/register",
                                 "/auth/login",
+                                "/auth/refresh",
+                                "/auth/forgot-password",
+                                "/auth/reset-password",
+                                "/.well-known/jwks.json",
                                 "/actuator/**"
                         ).permitAll()
                         .anyRequest().authenticated()
@@ -67,25 +80,33 @@ public class SecurityConfig {
 
     /**
      * Creates a password encoder bean for the application.
+     * Hashing and verification times are exported as metrics.
      *
+     * @param strength      The BCrypt cost factor
+     * @param meterRegistry The registry the timings are exported to
      * @return The BCrypt password encoder
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${blog.security.bcrypt-strength:12}") int strength,
+            MeterRegistry meterRegistry) {
+        return new MeteredPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
     }
 
     /**
      * Configures the authentication provider.
-     * Sets up the password encoder and user details service.
+     * Sets up the password encoder and user details service. Hashes created with a
+     * lower cost than the configured strength are re-hashed on the next successful login.
      *
+     * @param passwordEncoder The password encoder
      * @return The configured authentication provider
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider =
                 new DaoAuthenticationProvider(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         return provider;
     }
 
@@ -2,7 +2,9 @@ package com.qburst.blog_application.controller;
 
 import com.qburst.blog_application.dto.request.auth.LoginRequest;
 import com.qburst.blog_application.dto.request.auth.ResetPasswordRequest;
+import com.qburst.blog_application.dto.request.auth.TokenRefreshRequest;
 import com.qburst.blog_application.dto.response.user.UserAddResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -38,11 +40,10 @@ public class AuthController {
         return ResponseEntity.ok(userService.authenticate(request));
     }
 
-    // @PostMapping("/refresh")
-    // public ResponseEntity<AuthResponse> refreshToken(@RequestBody
-    // TokenRefreshRequest request) {
-    // return ResponseEntity.ok(authService.refreshToken(request));
-    // }
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
+        return ResponseEntity.ok(userService.refreshToken(request.refreshToken()));
+    }
 
     @DeleteMapping("/logout")
     public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization") String authorization) {
@@ -51,15 +52,26 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(@RequestHeader(value = "Authorization") String authorization) {
+        // Invalidates every token issued to the caller so far, on all devices
+        userService.logoutEverywhere(authorization);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/forgot-password")
-    public ResponseEntity<String> forgotPassword(@RequestParam String email) {
-        userService.requestPasswordReset(email);
+    public ResponseEntity<String> forgotPassword(@RequestParam String email, HttpServletRequest httpRequest) {
+        // Queued for background delivery; the response does not depend on whether the account exists.
+        // The remote address is the client's even behind a trusted proxy (server.forward-headers-strategy)
+        userService.requestPasswordReset(email, httpRequest.getRemoteAddr());
         return ResponseEntity.ok("If an account exists, an OTP has been sent.");
     }
 
     @PostMapping("/reset-password")
-    public ResponseEntity<String> resetPassword(@RequestBody ResetPasswordRequest request) {
-        userService.resetPassword(request.email(), request.otp(), request.newPassword());
+    public ResponseEntity<String> resetPassword(@RequestBody ResetPasswordRequest request,
+                                                HttpServletRequest httpRequest) {
+        // Rate limited like forgot-password, on buckets of its own
+        userService.resetPassword(request.email(), request.otp(), request.newPassword(), httpRequest.getRemoteAddr());
         return ResponseEntity.ok("Password reset successful.");
     }
 }
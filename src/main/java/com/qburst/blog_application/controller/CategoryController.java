@@ -10,22 +10,27 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
 @RequestMapping("/categories")
 public class CategoryController {
     private final CategoryServiceImpl categoryService;
+    private final ConditionalResponses conditionalResponses;
 
-    public CategoryController(CategoryServiceImpl categoryService) {
+    public CategoryController(CategoryServiceImpl categoryService, ConditionalResponses conditionalResponses) {
         this.categoryService = categoryService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @GetMapping
-    public ResponseEntity<Page<Category>> getCategories(@PageableDefault(size = 5, sort = "id") Pageable pageable) {
-        Page<Category> categories = categoryService.getAllCategories(pageable);
+    public ResponseEntity<Page<Category>> getCategories(@PageableDefault(size = 5, sort = "id") Pageable pageable,
+                                                        WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(categoryService.getCategoriesVersion(), pageable);
 
-        return ResponseEntity.ok(categories);
+        return conditionalResponses.respond(webRequest, "category-list", etag,
+                () -> categoryService.getAllCategories(pageable));
     }
 
     @PostMapping
@@ -51,9 +56,13 @@ public class CategoryController {
     }
 
     @GetMapping("/{categoryId}")
-    public ResponseEntity<Category> getCategory(@PathVariable Long categoryId) {
-        Category category = categoryService.getCategoryById(categoryId);
+    public ResponseEntity<Category> getCategory(@PathVariable Long categoryId, WebRequest webRequest) {
+        // Unknown ids skip the check and get their 404 from the service
+        String etag = categoryService.getCategoryVersion(categoryId)
+                .map(updatedAt -> ConditionalResponses.strongETag(categoryId, updatedAt))
+                .orElse(null);
 
-        return ResponseEntity.ok(category);
+        return conditionalResponses.respond(webRequest, "category-detail", etag,
+                () -> categoryService.getCategoryById(categoryId));
     }
 }
@@ -0,0 +1,88 @@
+package com.qburst.blog_application.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.qburst.blog_application.config.HttpCacheProperties;
+import com.qburst.blog_application.service.support.ListingVersion;
+
+/**
+ * Conditional GET support for the read endpoints.
+ * <p>
+ * The caller computes the ETag from a cheap version lookup first; when it matches the
+ * request's {@code If-None-Match} a body-less 304 is returned and the body is never built.
+ * Single resources get ETags from their id and {@code updatedAt}: strong when every field
+ * of the body changes only with {@code updatedAt}, weak otherwise. Listing pages get weak
+ * ETags from their scope's {@link ListingVersion} and the page parameters.
+ */
+@Component
+public class ConditionalResponses {
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    public ConditionalResponses(HttpCacheProperties httpCacheProperties) {
+        this.httpCacheProperties = httpCacheProperties;
+    }
+
+    public <T> ResponseEntity<T> respond(WebRequest request, String endpoint, String etag, Supplier<T> body) {
+        return respond(request, endpoint, etag, body, ignored -> etag);
+    }
+
+    /**
+     * @param etag   validator checked before the body is built, {@code null} to skip the check
+     * @param etagOf validator sent with a freshly built body, which may be newer than {@code etag}
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, String endpoint, String etag,
+                                         Supplier<T> body, Function<T, String> etagOf) {
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(httpCacheProperties.cacheControl(endpoint))
+                    .build();
+        }
+
+        T value = body.get();
+        return ResponseEntity.ok()
+                .eTag(etagOf.apply(value))
+                .cacheControl(httpCacheProperties.cacheControl(endpoint))
+                .body(value);
+    }
+
+    public static String strongETag(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + stamp(updatedAt) + "\"";
+    }
+
+    /**
+     * For resources carrying fields that change without {@code updatedAt}, such as a view count.
+     *
+     * @param revision bumped when the representation changes without an edit, e.g. by
+     *                 re-rendering; {@code null} counts as 0
+     */
+    public static String weakETag(Long id, LocalDateTime updatedAt, Integer revision) {
+        return "W/\"" + id + "-" + stamp(updatedAt) + "-" + (revision != null ? revision : 0) + "\"";
+    }
+
+    /**
+     * @param variant the request parameters that select the page (pageable, cursor, size);
+     *                only their string forms are used, so the tag is stable across instances
+     */
+    public static String weakETag(ListingVersion version, Object... variant) {
+        return "W/\"" + stamp(version.lastModified()) + "-" + version.total() + "-" + version.revision() + "-"
+                + Integer.toHexString(Arrays.toString(variant).hashCode()) + "\"";
+    }
+
+    private static String stamp(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        return Long.toString(time.toEpochSecond(ZoneOffset.UTC), 36) + "." + Integer.toString(time.getNano(), 36);
+    }
+}
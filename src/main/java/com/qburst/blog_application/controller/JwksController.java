@@ -0,0 +1,39 @@
+package com.qburst.blog_application.controller;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.qburst.blog_application.service.jwt.SigningKeyRing;
+
+/**
+ * Publishes the public halves of all trusted signing keys as a JWK Set (RFC 7517),
+ * so other services can verify our access tokens without sharing key files.
+ */
+@RestController
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+
+    public JwksController(SigningKeyRing signingKeyRing) {
+        this.signingKeyRing = signingKeyRing;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        List<Map<String, Object>> keys = signingKeyRing.getVerificationKeys().stream()
+                .<Map<String, Object>>map(key -> new LinkedHashMap<>(key.toJwk()))
+                .toList();
+
+        // Short max-age so clients pick up a rotated key well before the old one is dropped
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
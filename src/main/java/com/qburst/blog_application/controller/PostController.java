@@ -1,8 +1,20 @@
 package com.qburst.blog_application.controller;
 
 import com.qburst.blog_application.dto.request.post.PostRequest;
+import com.qburst.blog_application.dto.response.common.CursorSliceResponse;
+import com.qburst.blog_application.dto.response.common.SliceResponse;
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
+import com.qburst.blog_application.dto.response.post.PostImportSummary;
 import com.qburst.blog_application.dto.response.post.PostResponse;
+import com.qburst.blog_application.dto.response.post.PostSearchResponse;
 import com.qburst.blog_application.service.post.Impl.PostServiceImpl;
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostVersion;
+import com.qburst.blog_application.service.post.export.PostExportFormat;
+import com.qburst.blog_application.service.post.export.PostExporter;
+import com.qburst.blog_application.service.post.importer.PostImportJob;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +22,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -21,10 +53,142 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostServiceImpl postService;
+    private final ConditionalResponses conditionalResponses;
+    private final PostImportJob postImportJob;
+    private final PostExporter postExporter;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getAllPublishedPosts(@PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(postService.getAllPublishedPosts(pageable));
+    public ResponseEntity<Page<PostCardResponse>> getAllPublishedPosts(@PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                       WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getPublishedVersion(), pageable);
+
+        return conditionalResponses.respond(webRequest, "post-list", etag,
+                () -> postService.getAllPublishedPosts(pageable));
+    }
+
+    /**
+     * Published posts ranked by recent views, served from memory.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostCardResponse>> getTrending(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(postService.getTrending(limit));
+    }
+
+    /**
+     * Published posts, newest first, paged by an opaque cursor instead of a page number.
+     * Deep pages cost the same as the first one and no total is computed.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorSliceResponse<PostCardResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getPublishedVersion(), cursor, size);
+
+        return conditionalResponses.respond(webRequest, "post-feed", etag,
+                () -> postService.getFeed(cursor, size));
+    }
+
+    @GetMapping("/user/{userId}/feed")
+    public ResponseEntity<CursorSliceResponse<PostCardResponse>> getFeedByAuthor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getAuthorListingVersion(userId), cursor, size);
+
+        return conditionalResponses.respond(webRequest, "post-feed", etag,
+                () -> postService.getFeedByUser(userId, cursor, size));
+    }
+
+    @GetMapping("/category/{categoryId}/feed")
+    public ResponseEntity<CursorSliceResponse<PostCardResponse>> getFeedByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getCategoryListingVersion(categoryId), cursor, size);
+
+        return conditionalResponses.respond(webRequest, "post-feed", etag,
+                () -> postService.getFeedByCategory(categoryId, cursor, size));
+    }
+
+    /**
+     * Published posts carrying the tag, newest first, cursor-paged like the other feeds.
+     * The tag is matched in its normalized form; an unknown tag yields an empty page.
+     */
+    @GetMapping("/tag/{tag}")
+    public ResponseEntity<CursorSliceResponse<PostCardResponse>> getFeedByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getTagListingVersion(tag), cursor, size);
+
+        return conditionalResponses.respond(webRequest, "post-feed", etag,
+                () -> postService.getFeedByTag(tag, cursor, size));
+    }
+
+    /**
+     * Bulk import from an NDJSON body, one post per line. The response is NDJSON as well:
+     * one progress report per chunk, written as soon as the chunk is done, then a summary.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importPosts(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer out = httpResponse.getWriter();
+
+        Reader in = new InputStreamReader(httpRequest.getInputStream(), StandardCharsets.UTF_8);
+        PostImportSummary summary = postImportJob.run(in, report -> writeLine(out, report));
+        writeLine(out, summary);
+    }
+
+    /**
+     * Every live post as NDJSON or CSV, gzipped on the fly unless {@code gzip=false}.
+     * Rows are streamed chunk by chunk, so the export size does not affect memory. The
+     * request gets {@code blog.export.timeout} to finish instead of the default async timeout.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "true") boolean gzip,
+                                                             HttpServletRequest httpRequest) {
+        PostExportFormat exportFormat = PostExportFormat.from(format);
+        WebAsyncUtils.getAsyncManager(httpRequest).getAsyncWebRequest()
+                .setTimeout(postExporter.getTimeout().toMillis());
+        String filename = "posts-" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024, true);
+                postExporter.export(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                postExporter.export(exportFormat, out);
+            }
+        };
+
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private void writeLine(Writer out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsString(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
     @PostMapping
@@ -33,9 +197,81 @@ public class PostController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Served from pre-serialized bytes for hot posts. The gzip variant is sent when the
+     * client accepts it; responses that already carry a Content-Encoding are left alone
+     * by server compression. Both encodings share one weak ETag, so a copy of either
+     * revalidates against it.
+     */
     @GetMapping("/{slug}")
-    public ResponseEntity<PostResponse> getPostBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(postService.getPostBySlug(slug));
+    public ResponseEntity<byte[]> getPostBySlug(@PathVariable String slug, HttpServletRequest httpRequest,
+                                                WebRequest webRequest) {
+        // Signed-in readers are deduplicated per account, anonymous ones per client address,
+        // which is taken from X-Forwarded-For only when a trusted proxy set it
+        String viewerKey = httpRequest.getRemoteUser() != null
+                ? "user:" + httpRequest.getRemoteUser()
+                : "addr:" + httpRequest.getRemoteAddr();
+        String userAgent = httpRequest.getHeader(HttpHeaders.USER_AGENT);
+
+        Optional<PostVersion> version = postService.getPostVersion(slug);
+        String etag = version.map(v -> ConditionalResponses.weakETag(v.id(), v.updatedAt(), v.renderVersion())).orElse(null);
+
+        ResponseEntity<PostDetailBytesCache.Rendered> response = conditionalResponses.respond(webRequest, "post-detail", etag,
+                () -> postService.getRenderedPostBySlug(slug, version.orElse(null), viewerKey, userAgent),
+                post -> ConditionalResponses.weakETag(post.version().id(), post.version().updatedAt(),
+                        post.version().renderVersion()));
+
+        // A revalidated copy is still a read. The 304 carries the same Vary as the 200 it
+        // revalidates, so caches keep the two encodings apart (RFC 9110 section 15.4.5)
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            postService.recordView(version.get().id(), viewerKey, userAgent);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(response.getHeaders())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        PostDetailBytesCache.Rendered post = response.getBody();
+        boolean gzip = post.gzip() != null && acceptsGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .headers(response.getHeaders())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            ok.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ok.body(gzip ? post.gzip() : post.json());
+    }
+
+    // gzip is acceptable when listed with a non-zero q, or when unlisted and * is (RFC 9110 section 12.5.3)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean gzip = false;
+        boolean wildcard = false;
+        boolean gzipListed = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    accepted = !param.substring(2).trim().matches("0(\\.0{0,3})?");
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipListed = true;
+                gzip = accepted;
+            } else if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return gzipListed ? gzip : wildcard;
     }
 
     @DeleteMapping("/{slug}")
@@ -54,31 +290,36 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // Results are ordered by relevance, so any sort parameter is ignored
     @GetMapping("/search")
-    public ResponseEntity<Page<PostResponse>> searchPost(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+    public ResponseEntity<SliceResponse<PostSearchResponse>> searchPost(
+            @PageableDefault(size = 10) Pageable pageable,
             @RequestParam("keywords") String keywords) {
 
-        Page<PostResponse> posts = postService.searchPost(pageable, keywords);
+        SliceResponse<PostSearchResponse> posts = postService.searchPost(pageable, keywords);
 
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<PostResponse>> getPostsByAuthor(
+    public ResponseEntity<Page<PostCardResponse>> getPostsByAuthor(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @PathVariable Long userId) {
-        Page<PostResponse> userPosts = postService.getPostByUser(pageable, userId);
+            @PathVariable Long userId,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getAuthorListingVersion(userId), pageable);
 
-        return ResponseEntity.ok(userPosts);
+        return conditionalResponses.respond(webRequest, "post-list", etag,
+                () -> postService.getPostByUser(pageable, userId));
     }
 
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<Page<PostResponse>> getPostsByCategory(
+    public ResponseEntity<Page<PostCardResponse>> getPostsByCategory(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @PathVariable Long categoryId) {
-        Page<PostResponse> categoryPosts = postService.getPostByCategory(pageable, categoryId);
+            @PathVariable Long categoryId,
+            WebRequest webRequest) {
+        String etag = ConditionalResponses.weakETag(postService.getCategoryListingVersion(categoryId), pageable);
 
-        return ResponseEntity.ok(categoryPosts);
+        return conditionalResponses.respond(webRequest, "post-list", etag,
+                () -> postService.getPostByCategory(pageable, categoryId));
     }
 }
\ No newline at end of file
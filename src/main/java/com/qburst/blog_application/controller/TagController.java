@@ -0,0 +1,30 @@
+package com.qburst.blog_application.controller;
+
+import com.qburst.blog_application.dto.response.tag.TagCountResponse;
+import com.qburst.blog_application.service.tag.Impl.TagServiceImpl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tags")
+public class TagController {
+    private final TagServiceImpl tagService;
+
+    public TagController(TagServiceImpl tagService) {
+        this.tagService = tagService;
+    }
+
+    /**
+     * The most used tags with their published post counts, largest first. Served from a
+     * cached read of the maintained counts; {@code limit} is capped by {@code blog.tags.cloud-size}.
+     */
+    @GetMapping
+    public ResponseEntity<List<TagCountResponse>> getTagCloud(@RequestParam(defaultValue = "30") int limit) {
+        return ResponseEntity.ok(tagService.getTagCloud(limit));
+    }
+}
@@ -2,6 +2,7 @@ package com.qburst.blog_application.controller;
 
 import com.qburst.blog_application.dto.response.user.UserListResponse;
 import com.qburst.blog_application.dto.response.user.UserResponse;
+import com.qburst.blog_application.dto.request.user.UserRoleUpdateRequest;
 import com.qburst.blog_application.dto.request.user.UserUpdateRequest;
 import com.qburst.blog_application.service.user.Impl.UserServiceImpl;
 import jakarta.validation.Valid;
@@ -65,6 +66,15 @@ public class UserController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    @PutMapping(value = "/{userId}/roles", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserResponse> updateRoles(
+            @PathVariable Long userId,
+            @Valid @RequestBody UserRoleUpdateRequest request) {
+
+        return ResponseEntity.ok(userService.updateRoles(userId, request.roles()));
+    }
+
     @DeleteMapping("/{userId}")
     public ResponseEntity<Boolean> deleteUser(@PathVariable Long userId) {
         log.info("Request to delete user with ID: {}", userId);
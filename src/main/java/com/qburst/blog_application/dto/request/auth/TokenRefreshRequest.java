@@ -0,0 +1,8 @@
+package com.qburst.blog_application.dto.request.auth;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+        @NotBlank @JsonProperty("refresh_token") String refreshToken) {
+}
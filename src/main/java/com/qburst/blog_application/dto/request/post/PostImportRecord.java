@@ -0,0 +1,66 @@
+package com.qburst.blog_application.dto.request.post;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One line of an NDJSON post import. Authors are given by id or by username/email,
+ * categories by id or by name; {@code created_at} keeps the original publication date.
+ * <p>
+ * The size limits are those of the {@code posts} columns, so a record that passes
+ * validation cannot fail its chunk's insert on length.
+ */
+public record PostImportRecord(
+
+        @JsonProperty("title")
+        @NotBlank(message = "Title is required")
+        @Size(max = 256, message = "Title must be at most 256 characters")
+        String title,
+
+        @JsonProperty("content")
+        @NotBlank(message = "Content cannot be empty")
+        String content,
+
+        @JsonProperty("summary")
+        @Size(max = 255, message = "Summary must be at most 255 characters")
+        String summary,
+
+        @JsonProperty("category_id")
+        Long categoryId,
+
+        @JsonProperty("category")
+        String category,
+
+        @JsonProperty("author_id")
+        Long authorId,
+
+        @JsonProperty("author")
+        String author,
+
+        @JsonProperty("tags")
+        Set<String> tags,
+
+        @JsonProperty("published")
+        Boolean published,
+
+        @JsonProperty("image_url")
+        @Size(max = 255, message = "Image URL must be at most 255 characters")
+        String imageUrl,
+
+        @JsonProperty("created_at")
+        LocalDateTime createdAt
+) {
+    public PostImportRecord {
+        if (tags == null) {
+            tags = Set.of();
+        }
+
+        if (published == null) {
+            published = false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.qburst.blog_application.dto.request.user;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record UserRoleUpdateRequest(
+        @NotBlank
+        @Pattern(regexp = "ROLE_[A-Z_]+(,ROLE_[A-Z_]+)*", message = "Roles must be a comma-separated list such as ROLE_USER,ROLE_ADMIN")
+        String roles
+) {
+}
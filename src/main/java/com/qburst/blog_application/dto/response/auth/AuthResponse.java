@@ -1,5 +1,6 @@
 package com.qburst.blog_application.dto.response.auth;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import tools.jackson.databind.PropertyNamingStrategies;
@@ -14,7 +15,16 @@ public class AuthResponse {
     @JsonProperty("token_type")
     private String tokenType = "Bearer";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+
     public AuthResponse(String accessToken) {
         this.accessToken = accessToken;
     }
+
+    public AuthResponse(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
 }
@@ -0,0 +1,25 @@
+package com.qburst.blog_application.dto.response.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated listing. Pass {@code next_cursor} back as
+ * {@code cursor} to fetch the following page; it is {@code null} on the last page.
+ */
+public record CursorSliceResponse<T>(
+
+        @JsonProperty("content")
+        List<T> content,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("has_next")
+        boolean hasNext,
+
+        @JsonProperty("next_cursor")
+        String nextCursor
+) {
+}
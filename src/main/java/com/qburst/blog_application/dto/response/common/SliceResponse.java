@@ -0,0 +1,30 @@
+package com.qburst.blog_application.dto.response.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * A page of results without a total count, for listings where counting every
+ * match would cost more than fetching the page.
+ */
+public record SliceResponse<T>(
+
+        @JsonProperty("content")
+        List<T> content,
+
+        @JsonProperty("page")
+        int page,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("has_next")
+        boolean hasNext
+) {
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,65 @@
+package com.qburst.blog_application.dto.response.post;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Listing view of a post: everything a feed card shows, never the {@code content} body.
+ * Selected directly by JPQL constructor expressions; tags are attached afterwards
+ * with one batched query per page.
+ */
+public record PostCardResponse(
+
+        @JsonProperty("id")
+        Long id,
+
+        @JsonProperty("slug")
+        String slug,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("summary")
+        String summary,
+
+        @JsonProperty("image_url")
+        String imageUrl,
+
+        @JsonProperty("author")
+        String authorFullName,
+
+        @JsonProperty("category_name")
+        String categoryName,
+
+        @JsonProperty("tags")
+        Set<String> tags,
+
+        @JsonProperty("view_count")
+        long viewCount,
+
+        @JsonProperty("created_at")
+        LocalDateTime createdAt,
+
+        @JsonProperty("updated_at")
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Used by the JPQL constructor expressions in {@code PostRepository}.
+     */
+    public PostCardResponse(Long id, String slug, String title, String summary, String imageUrl,
+                            String authorFirstname, String authorLastname, String categoryName,
+                            long viewCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, slug, title, summary, imageUrl,
+                authorFirstname == null && authorLastname == null ? null : authorFirstname + " " + authorLastname,
+                categoryName != null ? categoryName : "Uncategorized",
+                Set.of(), viewCount, createdAt, updatedAt);
+    }
+
+    public PostCardResponse withTags(Set<String> tags) {
+        return new PostCardResponse(id, slug, title, summary, imageUrl, authorFullName, categoryName,
+                tags, viewCount, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,59 @@
+package com.qburst.blog_application.dto.response.post;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One exported post. Field names match {@code PostImportRecord} where both exist,
+ * so an NDJSON export can be imported again.
+ */
+public record PostExportRow(
+
+        @JsonProperty("id")
+        long id,
+
+        @JsonProperty("slug")
+        String slug,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("summary")
+        String summary,
+
+        @JsonProperty("content")
+        String content,
+
+        @JsonProperty("image_url")
+        String imageUrl,
+
+        @JsonProperty("published")
+        boolean published,
+
+        @JsonProperty("view_count")
+        long viewCount,
+
+        @JsonProperty("author_id")
+        long authorId,
+
+        @JsonProperty("author")
+        String author,
+
+        @JsonProperty("category_id")
+        Long categoryId,
+
+        @JsonProperty("category")
+        String category,
+
+        @JsonProperty("tags")
+        List<String> tags,
+
+        @JsonProperty("created_at")
+        LocalDateTime createdAt,
+
+        @JsonProperty("updated_at")
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,41 @@
+package com.qburst.blog_application.dto.response.post;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Progress line written after each import chunk. Only the first errors of a chunk are
+ * listed; {@code failed} counts all of them.
+ */
+public record PostImportChunkReport(
+
+        @JsonProperty("chunk")
+        int chunk,
+
+        @JsonProperty("first_line")
+        long firstLine,
+
+        @JsonProperty("last_line")
+        long lastLine,
+
+        @JsonProperty("imported")
+        int imported,
+
+        @JsonProperty("failed")
+        int failed,
+
+        @JsonProperty("errors")
+        List<LineError> errors
+) {
+
+    public record LineError(
+
+            @JsonProperty("line")
+            long line,
+
+            @JsonProperty("message")
+            String message
+    ) {
+    }
+}
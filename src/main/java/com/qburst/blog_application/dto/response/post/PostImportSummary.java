@@ -0,0 +1,25 @@
+package com.qburst.blog_application.dto.response.post;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Last line of an import response.
+ */
+public record PostImportSummary(
+
+        @JsonProperty("lines")
+        long lines,
+
+        @JsonProperty("imported")
+        long imported,
+
+        @JsonProperty("failed")
+        long failed,
+
+        @JsonProperty("chunks")
+        int chunks,
+
+        @JsonProperty("completed")
+        boolean completed
+) {
+}
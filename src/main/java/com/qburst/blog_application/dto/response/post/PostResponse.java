@@ -1,5 +1,6 @@
 package com.qburst.blog_application.dto.response.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
@@ -19,6 +20,10 @@ public record PostResponse(
         @JsonProperty("content")
         String content,
 
+        // Rendered and sanitized once at write time; null for older posts until PostRenderJob reaches them
+        @JsonProperty("content_html")
+        String contentHtml,
+
         @JsonProperty("summary")
         String summary,
 
@@ -44,6 +49,10 @@ public record PostResponse(
         LocalDateTime createdAt,
 
         @JsonProperty("updated_at")
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+
+        // Part of the post's version (see PostVersion), not of the response body
+        @JsonIgnore
+        Integer renderVersion
 ) {
 }
\ No newline at end of file
@@ -1,4 +1,40 @@
 package com.qburst.blog_application.dto.response.post;
 
-public class PostSearchResponse {
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * One search hit. {@code titleHighlight} and {@code snippet} are HTML: the post text is
+ * escaped, and the only tags are the {@code <mark>} elements around matched words.
+ */
+public record PostSearchResponse(
+
+        @JsonProperty("id")
+        Long id,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("slug")
+        String slug,
+
+        @JsonProperty("summary")
+        String summary,
+
+        @JsonProperty("author")
+        String authorFullName,
+
+        @JsonProperty("title_highlight")
+        String titleHighlight,
+
+        @JsonProperty("snippet")
+        String snippet,
+
+        @JsonProperty("rank")
+        double rank,
+
+        @JsonProperty("created_at")
+        LocalDateTime createdAt
+) {
 }
@@ -0,0 +1,16 @@
+package com.qburst.blog_application.dto.response.tag;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A tag with the number of published posts carrying it, as listed in the tag cloud.
+ */
+public record TagCountResponse(
+
+        @JsonProperty("name")
+        String name,
+
+        @JsonProperty("post_count")
+        long postCount
+) {
+}
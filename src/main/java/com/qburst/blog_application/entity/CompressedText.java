@@ -0,0 +1,52 @@
+package com.qburst.blog_application.entity;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Text held in its compressed form and inflated on first access.
+ * <p>
+ * Loading an entity only wraps the stored bytes; the decoder runs when {@link #text()}
+ * is first called and its result is kept. Entities read for anything other than their
+ * text therefore never pay for decompression.
+ */
+@Immutable
+public final class CompressedText {
+
+    private final byte[] data;
+    private final Function<byte[], String> decoder;
+    private volatile String text;
+
+    public CompressedText(byte[] data, Function<byte[], String> decoder) {
+        this.data = data;
+        this.decoder = decoder;
+    }
+
+    public String text() {
+        String current = text;
+        if (current == null) {
+            current = decoder.apply(data);
+            text = current;
+        }
+        return current;
+    }
+
+    /**
+     * The stored bytes; callers must not modify them.
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CompressedText that && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+}
@@ -1,7 +1,9 @@
 package com.qburst.blog_application.entity;
 
+import com.qburst.blog_application.entity.converter.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SoftDelete;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -30,9 +32,22 @@ public class PostEntity {
     @Column(unique = true, nullable = false)
     private String slug;
 
+    // Null when the content is stored compressed; read through getContent()
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Set instead of content when PostContentStorage compresses it
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_deflated")
+    private CompressedText compressedContent;
+
+    // Sanitized HTML rendered from the content when it is written
+    @Column(columnDefinition = "TEXT")
+    private String contentHtml;
+
+    // MarkdownRenderer.VERSION that produced contentHtml; older rows are re-rendered by PostRenderJob
+    private Integer renderVersion;
+
     private String summary;
 
     private String imageUrl;
@@ -41,12 +56,14 @@ public class PostEntity {
 
     private long viewCount = 0;
 
-    @ElementCollection
-    @CollectionTable(name = "post_tags", joinColumns = @JoinColumn(name = "post_id"))
-    @Column(name = "tag")
-    private Set<String> tags = new HashSet<>();
+    @ManyToMany
+    @BatchSize(size = 100) // Tags of a whole listing page load in one select
+    @JoinTable(name = "post_tag_links",
+            joinColumns = @JoinColumn(name = "post_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<TagEntity> tags = new HashSet<>();
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private UserEntity author;
 
@@ -62,4 +79,11 @@ public class PostEntity {
     private LocalDateTime updatedAt;
 
     private LocalDateTime deletedAt;
-}
\ No newline at end of file
+
+    /**
+     * The post's text from whichever column holds it; compressed text is inflated on the first call.
+     */
+    public String getContent() {
+        return compressedContent != null ? compressedContent.text() : content;
+    }
+}
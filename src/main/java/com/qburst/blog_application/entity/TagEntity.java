@@ -0,0 +1,31 @@
+package com.qburst.blog_application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * An interned tag. Posts reference tags through {@code post_tag_links}, so each name is
+ * stored once and tag lookups go through the {@code (tag_id, post_id)} index.
+ * <p>
+ * {@code postCount} is the number of published, non-deleted posts carrying the tag. It is
+ * adjusted in the same transaction as every change to those posts, never recounted per request.
+ */
+@Entity
+@Table(name = "tags")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long postCount;
+}
@@ -18,6 +18,8 @@ import java.util.List;
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
 })
 @SoftDelete(strategy = SoftDeleteType.ACTIVE)
 public class UserEntity {
@@ -55,6 +57,10 @@ public class UserEntity {
     @Column(nullable = false, columnDefinition = "int default 0")
     private int otpAttempts = 0;
 
+    // Bumped whenever outstanding access tokens must stop working (profile, role or account changes)
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int tokenVersion = 0;
+
     @CreationTimestamp
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,30 @@
+package com.qburst.blog_application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "user_token_watermarks", indexes = {
+        @Index(name = "idx_user_token_watermarks_updated_at", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTokenWatermarkEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant notBefore;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private Instant expiry;
+}
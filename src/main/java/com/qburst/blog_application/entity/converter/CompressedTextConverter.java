@@ -0,0 +1,33 @@
+package com.qburst.blog_application.entity.converter;
+
+import com.qburst.blog_application.entity.CompressedText;
+import com.qburst.blog_application.service.post.content.PostContentCodec;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps {@code bytea} columns written by {@link PostContentCodec} to {@link CompressedText}.
+ * No decoding happens here; the text is inflated on first access.
+ * <p>
+ * Created by Hibernate through Spring's bean container, which supplies the codec.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+    private final PostContentCodec codec;
+
+    public CompressedTextConverter(PostContentCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText text) {
+        return text != null ? text.data() : null;
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] data) {
+        return data != null ? new CompressedText(data, codec::decode) : null;
+    }
+}
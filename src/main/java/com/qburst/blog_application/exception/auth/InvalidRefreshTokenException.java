@@ -0,0 +1,10 @@
+package com.qburst.blog_application.exception.auth;
+
+import com.qburst.blog_application.exception.base.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidRefreshTokenException extends ApplicationException {
+    public InvalidRefreshTokenException(String message) {
+        super(message, "Unauthorized", HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,10 @@
+package com.qburst.blog_application.exception.auth;
+
+import com.qburst.blog_application.exception.base.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class LoginThrottledException extends ApplicationException {
+    public LoginThrottledException(String message) {
+        super(message, "Service Unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -1,7 +1,10 @@
 package com.qburst.blog_application.exception.auth;
 
-public class OtpExpiredException extends RuntimeException {
+import com.qburst.blog_application.exception.base.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class OtpExpiredException extends ApplicationException {
     public OtpExpiredException(String message) {
-        super(message);
+        super(message, "Bad Request", HttpStatus.BAD_REQUEST);
     }
 }
@@ -0,0 +1,10 @@
+package com.qburst.blog_application.exception.auth;
+
+import com.qburst.blog_application.exception.base.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends ApplicationException {
+    public TooManyRequestsException(String message) {
+        super(message, "Too Many Requests", HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
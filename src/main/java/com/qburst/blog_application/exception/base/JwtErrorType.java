@@ -6,5 +6,6 @@ public enum JwtErrorType {
     UNSUPPORTED,
     SIGNATURE_INVALID,
     EMPTY,
-    BLACKLISTED
+    BLACKLISTED,
+    REVOKED
 }
@@ -0,0 +1,10 @@
+package com.qburst.blog_application.exception.post;
+
+import com.qburst.blog_application.exception.base.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class UnsupportedExportFormatException extends ApplicationException {
+    public UnsupportedExportFormatException(String message) {
+        super(message, "Bad Request", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -3,21 +3,26 @@ package com.qburst.blog_application.mapper;
 import com.qburst.blog_application.dto.request.post.PostRequest;
 import com.qburst.blog_application.dto.response.post.PostResponse;
 import com.qburst.blog_application.entity.PostEntity;
+import com.qburst.blog_application.entity.TagEntity;
 import com.qburst.blog_application.entity.UserEntity;
 import org.mapstruct.*;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface PostMapper {
 
     // 1. Convert Request to Entity
     // We must manually map 'isPublished' if the naming convention in Entity is just 'published'
-    // MapStruct automatically maps matching names like 'title', 'content', 'summary', 'tags', 'imageUrl'
+    // MapStruct automatically maps matching names like 'title', 'summary', 'imageUrl'
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "author", ignore = true)
     @Mapping(target = "slug", ignore = true)
+    @Mapping(target = "tags", ignore = true) // Interned through TagService
+    @Mapping(target = "content", ignore = true) // Stored through PostContentStorage
     PostEntity toEntity(PostRequest request);
 
     // 2. Convert Entity to Response
@@ -36,6 +41,10 @@ public interface PostMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "tags", ignore = true) // Interned through TagService
+    @Mapping(target = "content", ignore = true) // Stored through PostContentStorage
+    @Mapping(target = "contentHtml", ignore = true)
+    @Mapping(target = "renderVersion", ignore = true)
     void updateEntityFromDto(PostRequest request, @MappingTarget PostEntity entity);
 
     // Helper for your 'authorFullName' mapping
@@ -44,4 +53,9 @@ public interface PostMapper {
         // Verify your UserEntity field names are indeed 'firstname' and 'lastname'
         return user.getFirstname() + " " + user.getLastname();
     }
+
+    default Set<String> mapTagNames(Set<TagEntity> tags) {
+        if (tags == null) return Set.of();
+        return tags.stream().map(TagEntity::getName).collect(Collectors.toUnmodifiableSet());
+    }
 }
\ No newline at end of file
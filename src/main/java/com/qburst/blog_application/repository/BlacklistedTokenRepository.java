@@ -6,5 +6,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 public interface BlacklistedTokenRepository
         extends MongoRepository<BlacklistedToken, String> {
 
-    boolean existsByToken(String token);
+    boolean existsByTokenId(String tokenId);
 }
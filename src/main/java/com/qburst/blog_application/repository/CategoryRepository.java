@@ -1,16 +1,37 @@
 package com.qburst.blog_application.repository;
 
 import com.qburst.blog_application.entity.CategoryEntity;
+import com.qburst.blog_application.service.support.ListingVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
     @Query("SELECT ce from CategoryEntity ce WHERE ce.name = :name")
     public List<CategoryEntity> findCategoryByName(@Param("name") String name);
+
+    Slice<CategoryEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT ce.id, ce.name FROM CategoryEntity ce")
+    List<Object[]> findAllNames();
+
+    @Query("SELECT ce.updatedAt FROM CategoryEntity ce WHERE ce.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // Newest edit plus the number of categories, so hard deletes show as well
+    @Query("SELECT max(ce.updatedAt), count(ce) FROM CategoryEntity ce")
+    List<Object[]> findLastUpdateAndCount();
+
+    @Query("SELECT new com.qburst.blog_application.service.support.ListingVersion(max(ce.updatedAt), count(ce)) " +
+            "FROM CategoryEntity ce")
+    ListingVersion findListingVersion();
 }
@@ -1,11 +1,18 @@
 package com.qburst.blog_application.repository;
 
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
 import com.qburst.blog_application.entity.PostEntity;
-import org.springframework.data.domain.Page;
+import com.qburst.blog_application.service.post.PostVersion;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,15 +23,116 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
     Optional<PostEntity> findBySlugAndAuthorId(String slug, Long authorId);
 
-    Page<PostEntity> findByIsPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
+    // Single-post reads that render a full PostResponse: one statement for the post,
+    // its author, category and tags
 
-    Page<PostEntity> findByCategoryId(Long categoryId, Pageable pageable);
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    @Query("SELECT p FROM PostEntity p WHERE p.slug = :slug")
+    Optional<PostEntity> findDetailBySlug(@Param("slug") String slug);
+
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    @Query("SELECT p FROM PostEntity p WHERE p.id = :id")
+    Optional<PostEntity> findDetailById(@Param("id") Long id);
+
+    // Conditional GET validators, answered from the indexes in db/postgres/018-post-version-indexes.sql
+    // and db/postgres/025-post-render-version-index.sql
+
+    @Query("SELECT new com.qburst.blog_application.service.post.PostVersion(p.id, p.updatedAt, p.renderVersion) " +
+            "FROM PostEntity p WHERE p.slug = :slug")
+    Optional<PostVersion> findVersionBySlug(@Param("slug") String slug);
+
+    // Listing validators: the newest published post in each scope, one probe of the partial
+    // indexes in db/postgres/018-post-version-indexes.sql. Totals come from PostCountRegistry
+    // and the rest from ListingRevisions.
+
+    @Query("SELECT max(p.updatedAt) FROM PostEntity p WHERE p.isPublished = true")
+    LocalDateTime findLastPublishedUpdate();
+
+    @Query("SELECT max(p.updatedAt) FROM PostEntity p WHERE p.isPublished = true AND p.category.id = :categoryId")
+    LocalDateTime findLastPublishedUpdateInCategory(@Param("categoryId") Long categoryId);
+
+    @Query("SELECT max(p.updatedAt) FROM PostEntity p WHERE p.isPublished = true AND p.author.id = :authorId")
+    LocalDateTime findLastPublishedUpdateByAuthor(@Param("authorId") Long authorId);
+
+    // Listings select PostCardResponse directly, so the content column is never read.
+    // Slices skip the count query; totals come from PostCountRegistry. Tags are attached
+    // afterwards through findTagsByPostIds.
+
+    String CARD = "SELECT new com.qburst.blog_application.dto.response.post.PostCardResponse(" +
+            "p.id, p.slug, p.title, p.summary, p.imageUrl, a.firstname, a.lastname, c.name, " +
+            "p.viewCount, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p LEFT JOIN p.author a LEFT JOIN p.category c ";
+
+    @Query(CARD + "WHERE p.isPublished = true")
+    Slice<PostCardResponse> findPublishedCards(Pageable pageable);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.category.id = :categoryId")
+    Slice<PostCardResponse> findPublishedCardsByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.author.id = :authorId")
+    Slice<PostCardResponse> findPublishedCardsByAuthor(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.id IN :ids")
+    List<PostCardResponse> findPublishedCardsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id, t.name FROM PostEntity p JOIN p.tags t WHERE p.id IN :ids")
+    List<Object[]> findTagsByPostIds(@Param("ids") Collection<Long> ids);
 
     List<PostEntity> findByTitleContainingIgnoreCase(String keyword);
 
-    boolean existsBySlug(String slug);
+    long countByIsPublishedTrue();
+
+    long countByCategoryIdAndIsPublishedTrue(Long categoryId);
+
+    long countByAuthorIdAndIsPublishedTrue(Long authorId);
+
+    @Query("SELECT p.category.id, count(p) FROM PostEntity p WHERE p.isPublished = true GROUP BY p.category.id")
+    List<Object[]> countPublishedByCategory();
+
+    @Query("SELECT p.author.id, count(p) FROM PostEntity p WHERE p.isPublished = true GROUP BY p.author.id")
+    List<Object[]> countPublishedByAuthor();
+
+    // Cold-start input for the trending ranking when no snapshot exists: id, view_count, created_at
+    @Query("SELECT p.id, p.viewCount, p.createdAt FROM PostEntity p " +
+            "WHERE p.isPublished = true AND p.createdAt >= :since ORDER BY p.viewCount DESC")
+    List<Object[]> findTrendingSeed(@Param("since") LocalDateTime since, Pageable limit);
+
+    // Keyset feeds: the Pageable only carries the row limit, never an offset.
+    // Each query reads an index range starting right after the cursor (see db/postgres/011-post-feed-indexes.sql).
+
+    @Query(CARD + "WHERE p.isPublished = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findFeed(Pageable limit);
+
+    @Query(CARD + "WHERE p.isPublished = true " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.author.id = :authorId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findAuthorFeed(@Param("authorId") Long authorId, Pageable limit);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.author.id = :authorId " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findAuthorFeedAfter(@Param("authorId") Long authorId, @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Pageable limit);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.category.id = :categoryId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findCategoryFeed(@Param("categoryId") Long categoryId, Pageable limit);
+
+    @Query(CARD + "WHERE p.isPublished = true AND p.category.id = :categoryId " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findCategoryFeedAfter(@Param("categoryId") Long categoryId, @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id, Pageable limit);
+
+    // Tag feeds join through post_tag_links; see db/postgres/022-tag-indexes.sql
 
-    Page<PostEntity> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    @Query(CARD + "JOIN p.tags t WHERE t.id = :tagId AND p.isPublished = true " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findTagFeed(@Param("tagId") Long tagId, Pageable limit);
 
-    Page<PostEntity> findByAuthorId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+    @Query(CARD + "JOIN p.tags t WHERE t.id = :tagId AND p.isPublished = true " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardResponse> findTagFeedAfter(@Param("tagId") Long tagId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable limit);
+}
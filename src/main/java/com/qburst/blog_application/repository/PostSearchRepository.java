@@ -0,0 +1,107 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.dto.response.post.PostSearchResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+/**
+ * Full-text search over the {@code posts.search_document} column (see {@code db/postgres/023-post-search-document.sql}).
+ * <p>
+ * Matching uses the GIN index; ranking uses {@code ts_rank_cd}, whose default weights
+ * put title (A) over summary (B) over content (C). Snippets are produced only for the
+ * rows of the requested page, since {@code ts_headline} re-parses the document. Posts stored
+ * compressed have no content Postgres can read, so their snippet is taken from the summary.
+ * <p>
+ * {@code ts_headline} returns the stored text with its markup untouched, so matches are
+ * delimited with control characters instead of tags; the result is HTML-escaped here and
+ * only then are the delimiters turned into {@code <mark>} elements.
+ */
+@Repository
+public class PostSearchRepository {
+
+    private static final char START_SEL = '\u0002';
+    private static final char STOP_SEL = '\u0003';
+
+    private static final String HIGHLIGHT = "StartSel=\"" + START_SEL + "\", StopSel=\"" + STOP_SEL + "\"";
+
+    // Delimiters already present in the stored text are removed so they cannot forge a highlight
+    private static final String DELIMITERS = "" + START_SEL + STOP_SEL;
+
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT to_tsquery('english', :query) AS query),
+            hits AS (
+                SELECT p.id, p.title, p.slug, p.summary, p.content, p.created_at, p.author_id,
+                       ts_rank_cd(p.search_document, q.query) AS rank
+                FROM posts p, q
+                WHERE p.search_document @@ q.query
+                  AND p.is_deleted = false
+                  AND p.is_published = true
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT h.id, h.title, h.slug, h.summary, h.created_at, h.rank,
+                   concat_ws(' ', u.firstname, u.lastname) AS author,
+                   ts_headline('english', translate(h.title, :delimiters, ''), q.query, :titleOptions) AS title_highlight,
+                   ts_headline('english', translate(coalesce(h.content, h.summary, ''), :delimiters, ''), q.query, :snippetOptions) AS snippet
+            FROM hits h
+            CROSS JOIN q
+            LEFT JOIN users u ON u.id = h.author_id
+            ORDER BY h.rank DESC, h.id DESC
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param tsQuery a query produced by {@link com.qburst.blog_application.service.post.search.SearchQueryParser}
+     */
+    public Slice<PostSearchResponse> search(String tsQuery, Pageable pageable) {
+        // One extra row tells whether a next page exists without counting all matches
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", tsQuery)
+                .addValue("limit", pageable.getPageSize() + 1)
+                .addValue("offset", pageable.getOffset())
+                .addValue("delimiters", DELIMITERS)
+                .addValue("titleOptions", HIGHLIGHT + ", HighlightAll=true")
+                .addValue("snippetOptions", HIGHLIGHT + ", MaxFragments=2, MaxWords=30, MinWords=12");
+
+        List<PostSearchResponse> rows = jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new PostSearchResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("summary"),
+                rs.getString("author"),
+                toHighlightHtml(rs.getString("title_highlight")),
+                toHighlightHtml(rs.getString("snippet")),
+                rs.getDouble("rank"),
+                rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null
+        ));
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<PostSearchResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Escapes a {@code ts_headline} result and marks up its highlighted words.
+     */
+    static String toHighlightHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(START_SEL), "<mark>")
+                .replace(String.valueOf(STOP_SEL), "</mark>");
+    }
+}
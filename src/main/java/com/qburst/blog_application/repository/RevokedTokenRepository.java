@@ -0,0 +1,27 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByTokenKey(String tokenKey);
+
+    @Query("SELECT rt.tokenKey FROM RevokedTokenEntity rt WHERE rt.expiry > :now")
+    List<String> findActiveTokenKeys(@Param("now") Instant now);
+
+    @Query("SELECT rt.tokenKey FROM RevokedTokenEntity rt WHERE rt.revokedAt >= :since")
+    List<String> findTokenKeysRevokedSince(@Param("since") Instant since);
+
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity rt WHERE rt.expiry <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,29 @@
+package com.qburst.blog_application.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Row count estimates from the Postgres planner statistics ({@code pg_class.reltuples}).
+ * Reading them is constant time, unlike {@code count(*)} which scans the table.
+ */
+@Repository
+public class TableStatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableStatisticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the estimated row count, or -1 when the table has never been analyzed
+     */
+    public long estimateRowCount(String table) {
+        List<Long> estimates = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+        return estimates.isEmpty() || estimates.get(0) == null ? -1 : estimates.get(0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.dto.response.tag.TagCountResponse;
+import com.qburst.blog_application.entity.TagEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TagRepository extends JpaRepository<TagEntity, Long> {
+
+    List<TagEntity> findByNameIn(Collection<String> names);
+
+    // Reads the head of the post_count index (db/postgres/022-tag-indexes.sql); no grouping
+    @Query("SELECT new com.qburst.blog_application.dto.response.tag.TagCountResponse(t.name, t.postCount) " +
+            "FROM TagEntity t WHERE t.postCount > 0 ORDER BY t.postCount DESC, t.name")
+    List<TagCountResponse> findTopByPostCount(Pageable limit);
+
+    Optional<TagEntity> findByName(String name);
+
+    @Query("SELECT t.id FROM TagEntity t WHERE t.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
+}
@@ -0,0 +1,8 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.Document.TrendingSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface TrendingSnapshotRepository
+        extends MongoRepository<TrendingSnapshot, String> {
+}
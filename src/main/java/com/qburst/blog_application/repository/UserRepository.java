@@ -1,9 +1,13 @@
 package com.qburst.blog_application.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,4 +23,41 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     public List<UserEntity> findUserByUsername(@Param("username") String username);
 
     Optional<UserEntity> findByEmail(String username);
+
+    /**
+     * Counts one attempt against the user's current OTP, unless its budget is spent or the
+     * OTP has since been replaced. Claimed before the code is checked, so concurrent guesses
+     * cannot exceed the budget.
+     */
+    @Modifying
+    @Query("UPDATE UserEntity ue SET ue.otpAttempts = ue.otpAttempts + 1 " +
+            "WHERE ue.id = :id AND ue.otp = :otp AND ue.otpAttempts < :maxAttempts")
+    int claimOtpAttempt(@Param("id") Long id, @Param("otp") String otp, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE UserEntity ue SET ue.otp = null, ue.otpExpiry = null " +
+            "WHERE ue.id = :id AND ue.otp = :otp AND ue.otpAttempts >= :maxAttempts")
+    int discardSpentOtp(@Param("id") Long id, @Param("otp") String otp, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Native so that soft-deleted users are included; deleting a user must still
+     * invalidate their outstanding tokens on every node.
+     */
+    @Query(value = "SELECT id, token_version FROM users WHERE token_version > 0 AND updated_at >= :since",
+            nativeQuery = true)
+    List<Object[]> findTokenVersionsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Native so that soft deletes, which bump {@code updated_at} first, are seen as well.
+     * Answered from {@code idx_users_updated_at} (db/postgres/026-user-updated-index.sql).
+     */
+    @Query(value = "SELECT max(updated_at) FROM users", nativeQuery = true)
+    LocalDateTime findLastUpdate();
+
+    // id, username, email of every active user, for resolving authors during bulk imports
+    @Query("SELECT ue.id, ue.username, ue.email FROM UserEntity ue")
+    List<Object[]> findAllIdentities();
+
+    // Admin listing without a count query; the total comes from ListingTotals
+    Slice<UserEntity> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.entity.UserTokenWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserTokenWatermarkEntityRepository extends JpaRepository<UserTokenWatermarkEntity, Long> {
+
+    List<UserTokenWatermarkEntity> findByExpiryAfter(Instant now);
+
+    List<UserTokenWatermarkEntity> findByUpdatedAtGreaterThanEqual(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM UserTokenWatermarkEntity w WHERE w.expiry <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,15 @@
+package com.qburst.blog_application.repository;
+
+import com.qburst.blog_application.Document.UserTokenWatermark;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserTokenWatermarkRepository
+        extends MongoRepository<UserTokenWatermark, Long> {
+
+    List<UserTokenWatermark> findByExpiryAfter(Instant now);
+
+    List<UserTokenWatermark> findByUpdatedAtGreaterThanEqual(Instant since);
+}
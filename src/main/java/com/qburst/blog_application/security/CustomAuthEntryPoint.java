@@ -32,6 +32,7 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
                 case SIGNATURE_INVALID -> message = "JWT signature invalid";
                 case EMPTY -> message = "JWT token missing";
                 case BLACKLISTED -> message = "Token is blacklisted";
+                case REVOKED -> message = "Token has been revoked. Please log in again.";
             }
         } else if (authException instanceof InsufficientAuthenticationException) {
             message = "Full authentication is required to access this resources...";
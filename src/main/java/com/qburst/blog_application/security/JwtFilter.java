@@ -4,7 +4,6 @@ import java.io.IOException;
 
 import com.qburst.blog_application.exception.auth.JwtAuthenticationException;
 import com.qburst.blog_application.exception.base.JwtErrorType;
-import com.qburst.blog_application.repository.BlacklistedTokenRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -14,13 +13,14 @@ import org.slf4j.MDC;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.qburst.blog_application.service.jwt.JwtService;
+import com.qburst.blog_application.service.jwt.VerifiedToken;
+import com.qburst.blog_application.service.revocation.TokenRevocationService;
+import com.qburst.blog_application.service.user.TokenVersionRegistry;
 
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -42,15 +42,15 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     public JwtFilter(JwtService jwtService,
-                     UserDetailsService userDetailsService,
-                     BlacklistedTokenRepository blacklistedTokenRepository) {
+                     TokenRevocationService tokenRevocationService,
+                     TokenVersionRegistry tokenVersionRegistry) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
-        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     /**
@@ -73,50 +73,59 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
 
+        // No token: continue unauthenticated and let the entry point reject protected paths
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Token is missing");
             return;
         }
 
         String token = authHeader.substring(7);
 
-        // LOGOUT / BLACKLIST CHECK
-        if (blacklistedTokenRepository.existsByToken(token)) {
-            log.warn("Blocked request with blacklisted JWT");
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Token is blacklisted. Please log in again.");
-            return;
-        }
-
         try {
-            String username = jwtService.extractUsername(token);
+            // Parse and verify the token once; repeated calls with the same token hit the cache
+            VerifiedToken verifiedToken = jwtService.verify(token);
+
+            // LOGOUT / BLACKLIST CHECK by jti and per-user watermark (answered in memory
+            // unless the Bloom filter reports a hit)
+            if (tokenRevocationService.isRevoked(verifiedToken)) {
+                log.warn("Blocked request with blacklisted JWT");
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.getWriter().write("Token is blacklisted. Please log in again.");
+                return;
+            }
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(username);
+                // Profile, role or account changes bump the user's version and retire older tokens
+                if (!tokenVersionRegistry.isCurrent(verifiedToken.userId(), verifiedToken.userVersion())) {
+                    throw new JwtAuthenticationException(
+                            JwtErrorType.REVOKED,
+                            "JWT issued before the latest account change",
+                            null
+                    );
+                }
 
-                if (jwtService.isTokenValid(token, userDetails)) {
+                // Principal is rebuilt from claims alone, no user lookup per request
+                TokenPrincipal principal = TokenPrincipal.from(verifiedToken);
 
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                principal.getAuthorities()
+                        );
 
-                    authentication.setDetails(
-                            new WebAuthenticationDetailsSource()
-                                    .buildDetails(request)
-                    );
+                authentication.setDetails(
+                        new WebAuthenticationDetailsSource()
+                                .buildDetails(request)
+                );
 
-                    SecurityContextHolder.getContext()
-                            .setAuthentication(authentication);
+                SecurityContextHolder.getContext()
+                        .setAuthentication(authentication);
 
-                    // Add userID in log once authenticated
-                    MDC.put("userId", "333");
+                // Add userID in log once authenticated
+                if (principal.getUserId() != null) {
+                    MDC.put("userId", String.valueOf(principal.getUserId()));
                 }
             }
         } catch (ExpiredJwtException ex) {
@@ -163,7 +172,7 @@ public class JwtFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getServletPath();
 
-        // Exclude actuator paths from JWT validation logic
-        return path.startsWith("/actuator") || path.startsWith("/manage");
+        // Exclude actuator paths and the public key set from JWT validation logic
+        return path.startsWith("/actuator") || path.startsWith("/manage") || path.startsWith("/.well-known");
     }
 }
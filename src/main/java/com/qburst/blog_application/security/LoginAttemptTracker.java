@@ -0,0 +1,203 @@
+package com.qburst.blog_application.security;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qburst.blog_application.exception.auth.AccountLockedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-account lockout kept in memory so that locked accounts are rejected before
+ * the password encoder runs.
+ * <p>
+ * Each account keeps the timestamps of its last {@code max-failures} failures in a
+ * small ring; when the oldest of them is still inside the window the account is locked.
+ * Updates are serialised on one of a fixed set of lock stripes, while the lock check on
+ * the login path is a single volatile read. State is written to
+ * {@code users.failed_attempt}/{@code lock_time} in batches rather than per attempt;
+ * accounts whose batch fails to write are kept and written with the next flush.
+ */
+@Slf4j
+@Component
+public class LoginAttemptTracker {
+
+    private static final int STRIPES = 64;
+
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long lockMillis;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Object[] stripes = new Object[STRIPES];
+    private final Cache<String, AccountAttempts> accounts;
+    private final Map<String, AccountAttempts> dirty = new ConcurrentHashMap<>();
+
+    public LoginAttemptTracker(@Value("${blog.login.lockout.max-failures:5}") int maxFailures,
+                               @Value("${blog.login.lockout.window-minutes:15}") long windowMinutes,
+                               @Value("${blog.login.lockout.lock-minutes:15}") long lockMinutes,
+                               @Value("${blog.login.lockout.max-tracked-accounts:100000}") long maxTrackedAccounts,
+                               JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry) {
+        this.maxFailures = maxFailures;
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        this.lockMillis = Duration.ofMinutes(lockMinutes).toMillis();
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+
+        // Bounded so that stuffing with random usernames cannot grow memory without limit
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedAccounts)
+                .expireAfterAccess(Duration.ofMillis(Math.max(windowMillis, lockMillis)))
+                .build();
+    }
+
+    /**
+     * Throws when the account is locked. Must be called before any password hashing.
+     */
+    public void checkNotLocked(String username) {
+        AccountAttempts attempts = accounts.getIfPresent(username);
+        if (attempts != null && attempts.lockedUntil > System.currentTimeMillis()) {
+            meterRegistry.counter("auth.login.rejected", "reason", "locked").increment();
+            throw new AccountLockedException("Account is temporarily locked due to too many failed login attempts");
+        }
+    }
+
+    public void recordFailure(String username) {
+        AccountAttempts attempts = accounts.get(username, key -> new AccountAttempts(maxFailures));
+        long now = System.currentTimeMillis();
+
+        synchronized (stripeFor(username)) {
+            attempts.failures[attempts.next] = now;
+            attempts.next = (attempts.next + 1) % maxFailures;
+            attempts.count = Math.min(attempts.count + 1, maxFailures);
+
+            // Ring is full and the oldest of the last N failures is inside the window
+            long oldest = attempts.failures[attempts.next];
+            if (attempts.count == maxFailures && now - oldest <= windowMillis) {
+                attempts.lockedUntil = now + lockMillis;
+                attempts.lockedAt = now;
+                log.warn("Locking account {} after {} failed logins", username, maxFailures);
+            }
+        }
+
+        dirty.put(username, attempts);
+    }
+
+    public void recordSuccess(String username) {
+        AccountAttempts attempts = accounts.getIfPresent(username);
+        if (attempts == null) {
+            return;
+        }
+
+        synchronized (stripeFor(username)) {
+            attempts.count = 0;
+            attempts.next = 0;
+            attempts.lockedUntil = 0;
+            attempts.lockedAt = 0;
+        }
+
+        dirty.put(username, attempts);
+        accounts.invalidate(username);
+    }
+
+    /**
+     * Restores locks that are still active so a restart does not unlock accounts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveLocks() {
+        LocalDateTime lockedSince = LocalDateTime.now().minus(Duration.ofMillis(lockMillis));
+
+        jdbcTemplate.query("SELECT username, lock_time FROM users WHERE lock_time > ?",
+                rs -> {
+                    long lockedAt = rs.getTimestamp("lock_time").getTime();
+                    AccountAttempts attempts = new AccountAttempts(maxFailures);
+                    attempts.lockedAt = lockedAt;
+                    attempts.lockedUntil = lockedAt + lockMillis;
+                    accounts.put(rs.getString("username"), attempts);
+                },
+                Timestamp.valueOf(lockedSince));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${blog.login.lockout.flush-interval-ms:10000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<String, AccountAttempts> taken = new HashMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (String username : List.copyOf(dirty.keySet())) {
+            AccountAttempts attempts = dirty.remove(username);
+            if (attempts == null) {
+                continue;
+            }
+            taken.put(username, attempts);
+
+            synchronized (stripeFor(username)) {
+                batch.add(new Object[]{
+                        attempts.count,
+                        attempts.lockedAt > 0 ? Timestamp.valueOf(toLocalDateTime(attempts.lockedAt)) : null,
+                        username
+                });
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE users SET failed_attempt = ?, lock_time = ? WHERE username = ?", batch);
+        } catch (RuntimeException ex) {
+            log.warn("Persisting {} login attempt counters failed, retrying on next flush: {}",
+                    batch.size(), ex.getMessage());
+            // An account marked again since the batch was taken already carries its latest state
+            taken.forEach(dirty::putIfAbsent);
+        }
+    }
+
+    private Object stripeFor(String username) {
+        int hash = username.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class AccountAttempts {
+
+        private final long[] failures;
+        private int next;
+        private int count;
+        private long lockedAt;
+        private volatile long lockedUntil;
+
+        private AccountAttempts(int maxFailures) {
+            this.failures = new long[maxFailures];
+        }
+    }
+}
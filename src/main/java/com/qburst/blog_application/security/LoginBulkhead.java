@@ -0,0 +1,98 @@
+package com.qburst.blog_application.security;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.exception.auth.LoginThrottledException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds how many password verifications run at once so a burst of logins cannot
+ * occupy every core. Callers beyond the concurrency limit wait in a short queue for
+ * at most {@code max-wait-ms}; when the queue is full or the wait times out the login
+ * is rejected immediately with 503 instead of piling up on servlet threads.
+ */
+@Slf4j
+@Component
+public class LoginBulkhead {
+
+    private final Semaphore permits;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+
+    public LoginBulkhead(@Value("${blog.login.max-concurrent:0}") int maxConcurrent,
+                         @Value("${blog.login.max-queue:0}") int maxQueue,
+                         @Value("${blog.login.max-wait-ms:500}") long maxWaitMillis,
+                         MeterRegistry meterRegistry) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int concurrency = maxConcurrent > 0 ? maxConcurrent : cores;
+
+        this.permits = new Semaphore(concurrency);
+        this.maxQueue = maxQueue > 0 ? maxQueue : concurrency * 2;
+        this.maxWaitMillis = maxWaitMillis;
+        this.meterRegistry = meterRegistry;
+
+        this.queueWait = Timer.builder("auth.login.queue.wait")
+                .description("Time logins spend waiting for a bulkhead permit")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.size", waiting, AtomicInteger::get)
+                .description("Logins currently waiting for a bulkhead permit")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", permits, semaphore -> concurrency - semaphore.availablePermits())
+                .description("Logins currently verifying a password")
+                .register(meterRegistry);
+
+        log.info("Login bulkhead: {} concurrent, {} queued, {} ms max wait", concurrency, this.maxQueue, maxWaitMillis);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        long startedAt = System.nanoTime();
+
+        if (!permits.tryAcquire()) {
+            acquireQueued();
+        }
+
+        queueWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquireQueued() {
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            throw reject("queue_full");
+        }
+
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw reject("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private LoginThrottledException reject(String reason) {
+        meterRegistry.counter("auth.login.rejected", "reason", reason).increment();
+        return new LoginThrottledException("Too many concurrent logins, please retry shortly");
+    }
+}
@@ -0,0 +1,84 @@
+package com.qburst.blog_application.security;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qburst.blog_application.exception.auth.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory token buckets for password reset requests and OTP submissions, one per email
+ * address and one per client address. A bucket refills fully over the configured period, and idle
+ * buckets are dropped once they would have refilled anyway.
+ */
+@Component
+public class PasswordResetRateLimiter {
+
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final long emailCapacity;
+    private final long clientCapacity;
+    private final long refillNanos;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordResetRateLimiter(@Value("${blog.password-reset.per-email-limit:3}") long emailCapacity,
+                                    @Value("${blog.password-reset.per-client-limit:10}") long clientCapacity,
+                                    @Value("${blog.password-reset.limit-period-minutes:15}") long periodMinutes,
+                                    @Value("${blog.password-reset.max-tracked-keys:100000}") long maxTrackedKeys,
+                                    MeterRegistry meterRegistry) {
+        Duration period = Duration.ofMinutes(periodMinutes);
+
+        this.emailCapacity = emailCapacity;
+        this.clientCapacity = clientCapacity;
+        this.refillNanos = period.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.emailBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(period)
+                .build();
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * Takes one permit from the client's and the email's bucket for requesting an OTP, or
+     * throws when either is empty. The client is checked first, so one address cannot spray
+     * requests across many accounts.
+     */
+    public void acquire(String email, String clientAddress) {
+        acquire("request:", email, clientAddress);
+    }
+
+    /**
+     * Same as {@link #acquire}, for submitting an OTP. Submissions have buckets of their own,
+     * so a mistyped code does not use up the permits for requesting a new one.
+     */
+    public void acquireVerification(String email, String clientAddress) {
+        acquire("verify:", email, clientAddress);
+    }
+
+    private void acquire(String purpose, String email, String clientAddress) {
+        if (clientAddress != null
+                && !clientBuckets.get(purpose + clientAddress, key -> new TokenBucket(clientCapacity, refillNanos)).tryConsume()) {
+            reject("client");
+        }
+
+        String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+        if (!emailBuckets.get(purpose + normalizedEmail, key -> new TokenBucket(emailCapacity, refillNanos)).tryConsume()) {
+            reject("email");
+        }
+    }
+
+    private void reject(String limit) {
+        meterRegistry.counter("auth.password_reset.rejected", "limit", limit).increment();
+        throw new TooManyRequestsException("Too many password reset requests. Please try again later.");
+    }
+}
@@ -0,0 +1,34 @@
+package com.qburst.blog_application.security;
+
+/**
+ * Classic token bucket: holds up to {@code capacity} permits and regains them
+ * continuously at a fixed rate. Each bucket belongs to one key (an email or an
+ * address), so the monitor is practically never contended.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double available;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, long refillPeriodNanos) {
+        this.capacity = capacity;
+        this.permitsPerNano = (double) capacity / refillPeriodNanos;
+        this.available = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public synchronized boolean tryConsume() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+
+        if (available < 1) {
+            return false;
+        }
+        available -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.qburst.blog_application.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.qburst.blog_application.service.jwt.VerifiedToken;
+
+/**
+ * Immutable principal built purely from verified token claims, so authenticated
+ * requests do not need to load the user from the database.
+ */
+public final class TokenPrincipal implements UserDetails {
+
+    private final String username;
+    private final Long userId;
+    private final List<GrantedAuthority> authorities;
+
+    private TokenPrincipal(String username, Long userId, List<GrantedAuthority> authorities) {
+        this.username = username;
+        this.userId = userId;
+        this.authorities = authorities;
+    }
+
+    public static TokenPrincipal from(VerifiedToken token) {
+        List<GrantedAuthority> authorities = token.roles().stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+
+        return new TokenPrincipal(token.subject(), token.userId(), authorities);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Token-based principals never carry credentials.
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenPrincipal{username='" + username + "', userId=" + userId + ", authorities=" + authorities + '}';
+    }
+}
@@ -2,8 +2,7 @@ package com.qburst.blog_application.security;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import com.qburst.blog_application.entity.UserEntity;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,29 +11,43 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public class UserPrincipal implements UserDetails {
 
-    private UserEntity userEntity;
+    private final UserEntity userEntity;
+
+    // Parsed once; Spring Security asks for authorities several times per authentication
+    private final List<GrantedAuthority> authorities;
 
     public UserPrincipal(UserEntity userEntity) {
         this.userEntity = userEntity;
+        this.authorities = parseAuthorities(userEntity.getRoles());
     }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 1. Get the role from your entity (assuming userEntity.getRole() returns "ADMIN" or "USER")
-        String roles = userEntity.getRoles();
-
-        // 2. Spring Security hasRole("ADMIN") looks for "ROLE_ADMIN"
-        // return Collections.singleton(new SimpleGrantedAuthority(roles));
-
+    /**
+     * Splits a comma-separated role string such as "ROLE_USER,ROLE_ADMIN" into authorities.
+     * Spring Security hasRole("ADMIN") looks for "ROLE_ADMIN".
+     */
+    static List<GrantedAuthority> parseAuthorities(String roles) {
         if (roles == null || roles.isBlank()) {
-            return Collections.emptyList();
+            return List.of();
         }
 
-        // Splitting "ROLE_USER,ROLE_ADMIN" into individual authorities
         return Arrays.stream(roles.split(","))
                 .map(String::trim)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .filter(role -> !role.isEmpty())
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    public Long getId() {
+        return userEntity.getId();
+    }
+
+    public int getTokenVersion() {
+        return userEntity.getTokenVersion();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
     }
 
     @Override
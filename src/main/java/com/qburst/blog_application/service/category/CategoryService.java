@@ -1,9 +1,13 @@
 package com.qburst.blog_application.service.category;
 
 import com.qburst.blog_application.dto.request.category.Category;
+import com.qburst.blog_application.service.support.ListingVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface CategoryService {
     Category createCategory(Category category);
 
@@ -14,4 +18,8 @@ public interface CategoryService {
     Category getCategoryById(Long categoryId);
 
     Page<Category> getAllCategories(Pageable pageable);
+
+    Optional<LocalDateTime> getCategoryVersion(Long categoryId);
+
+    ListingVersion getCategoriesVersion();
 }
@@ -7,12 +7,17 @@ import com.qburst.blog_application.exception.category.CategoryNotFoundException;
 import com.qburst.blog_application.mapper.CategoryMapper;
 import com.qburst.blog_application.repository.CategoryRepository;
 import com.qburst.blog_application.service.category.CategoryService;
+import com.qburst.blog_application.service.support.ListingRevisions;
+import com.qburst.blog_application.service.support.ListingTotals;
+import com.qburst.blog_application.service.support.ListingVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ListingTotals listingTotals;
+    private final ListingRevisions listingRevisions;
 
     @Override
     @Transactional
@@ -57,6 +64,9 @@ public class CategoryServiceImpl implements CategoryService {
         categoryMapper.updateEntityFromDto(category, existingCategory);
 
         CategoryEntity updatedCategory = categoryRepository.save(existingCategory);
+
+        // Post cards show the category name
+        listingRevisions.bumpAllAfterCommit();
         return categoryMapper.toResponse(updatedCategory);
     }
 
@@ -66,6 +76,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new CategoryNotFoundException("Category ID: '" + categoryId + "' does not exist"));
 
         categoryRepository.delete(category);
+        listingRevisions.bumpAllAfterCommit();
     }
 
     @Override
@@ -78,8 +89,19 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public Page<Category> getAllCategories(Pageable pageable) {
-        Page<CategoryEntity> categories = categoryRepository.findAll(pageable);
+        Slice<CategoryEntity> categories = categoryRepository.findAllBy(pageable);
+
+        return ListingTotals.toPage(categories.map(categoryMapper::toResponse),
+                listingTotals.tableTotal("categories", categoryRepository::count));
+    }
 
-        return categories.map(categoryMapper::toResponse);
+    @Override
+    public Optional<LocalDateTime> getCategoryVersion(Long categoryId) {
+        return categoryRepository.findUpdatedAtById(categoryId);
+    }
+
+    @Override
+    public ListingVersion getCategoriesVersion() {
+        return categoryRepository.findListingVersion();
     }
 }
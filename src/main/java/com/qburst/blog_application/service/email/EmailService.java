@@ -2,7 +2,6 @@ package com.qburst.blog_application.service.email;
 
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,7 +12,7 @@ public class EmailService {
         this.mailSender = mailSender;
     }
 
-    @Async // Runs in a background thread
+    // Called from PasswordResetDispatcher, which already runs on the password reset executor
     public void sendOtpEmail(String to, String otp) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
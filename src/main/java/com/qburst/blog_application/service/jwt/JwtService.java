@@ -1,17 +1,28 @@
 package com.qburst.blog_application.service.jwt;
 
-import java.security.PrivateKey;
-import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.qburst.blog_application.security.TokenDigest;
+import com.qburst.blog_application.security.UserPrincipal;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 @Service
@@ -19,35 +30,110 @@ public class JwtService {
 
     private static final long ACCESS_TOKEN_EXPIRY = 30 * 60 * 1000; // 30 minutes
 
-    private final PrivateKey privateKey;
-    private final PublicKey publicKey;
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SigningKeyRing signingKeyRing;
+
+    // JwtParser is immutable and thread-safe once built, so a single instance serves all requests;
+    // the key ring picks the verification key per token from its kid header
+    private final JwtParser jwtParser;
 
-    public JwtService(PrivateKey privateKey, PublicKey publicKey) {
-        this.privateKey = privateKey;
-        this.publicKey = publicKey;
+    // Verified tokens keyed by digest; each entry expires no later than the token's own exp claim
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(SigningKeyRing signingKeyRing,
+                      @Value("${blog.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.signingKeyRing = signingKeyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(signingKeyRing)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
-    public String generateAccessToken(UserDetails userDetails) {
+    public String generateAccessToken(UserPrincipal principal) {
+        return generateAccessToken(
+                principal.getUsername(),
+                principal.getId(),
+                principal.getTokenVersion(),
+                principal.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList(),
+                null
+        );
+    }
 
+    /**
+     * Issues an access token from already known claims, without a user lookup.
+     *
+     * @param sessionId the refresh token family the token belongs to, or {@code null}
+     */
+    public String generateAccessToken(String username, Long userId, int tokenVersion,
+                                      List<String> roles, String sessionId) {
+
+        // Everything the request path needs to rebuild the principal without a user lookup
         Map<String, Object> map = new LinkedHashMap<>();
-        map.put("role", userDetails.getAuthorities());
+        map.put(VerifiedToken.ROLE_CLAIM, roles);
+        map.put(VerifiedToken.USER_ID_CLAIM, userId);
+        map.put(VerifiedToken.USER_VERSION_CLAIM, tokenVersion);
+        if (sessionId != null) {
+            map.put(VerifiedToken.SESSION_ID_CLAIM, sessionId);
+        }
+
+        SigningKey signingKey = signingKeyRing.getActiveKey();
 
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                .header().keyId(signingKey.keyId()).and()
+                .id(newTokenId())
+                .subject(username)
                 .claims(map)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRY))
-                .signWith(privateKey, Jwts.SIG.RS256)
+                .signWith(signingKey.privateKey(), signingKey.algorithm().getSignatureAlgorithm())
                 .compact();
     }
 
+    public Duration getAccessTokenTtl() {
+        return Duration.ofMillis(ACCESS_TOKEN_EXPIRY);
+    }
+
+    // 128 random bits, 22 characters; revocation stores only this instead of the whole token
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        TOKEN_ID_RANDOM.nextBytes(bytes);
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * Parses and verifies the token, reusing a previous verification of the same
+     * token when one is cached. Parsing failures (expired, malformed, bad signature)
+     * are thrown as the usual {@link io.jsonwebtoken.JwtException} subtypes and never cached.
+     *
+     * @param token the raw compact JWT
+     * @return the verified token
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token is empty or null");
+        }
+
+        return verifiedTokens.get(TokenDigest.sha256(token), digest ->
+                VerifiedToken.from(digest, jwtParser.parseSignedClaims(token).getPayload()));
+    }
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpired();
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public Date extractExpiration(String token) {
@@ -55,23 +141,34 @@ public class JwtService {
     }
 
     public Instant extractExpiry(String token) {
-        return extractExpiration(token).toInstant();
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verify(token).expiresAt();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        Claims claims = extractAllClaims(token);
-        return resolver.apply(claims);
+        return resolver.apply(verify(token).claims());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Expires each cache entry exactly when the underlying token expires.
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0L;
+            }
+            return Math.max(Duration.between(Instant.now(), value.expiresAt()).toNanos(), 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
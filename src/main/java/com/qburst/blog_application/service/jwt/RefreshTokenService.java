@@ -0,0 +1,172 @@
+package com.qburst.blog_application.service.jwt;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qburst.blog_application.dto.response.auth.AuthResponse;
+import com.qburst.blog_application.entity.RefreshTokenEntity;
+import com.qburst.blog_application.exception.auth.InvalidRefreshTokenException;
+import com.qburst.blog_application.repository.RefreshTokenRepository;
+import com.qburst.blog_application.security.TokenDigest;
+import com.qburst.blog_application.security.UserPrincipal;
+import com.qburst.blog_application.service.user.TokenVersionRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rotating opaque refresh tokens.
+ * <p>
+ * A login starts a session (token family). Each refresh exchanges the presented token
+ * for a new one in the same family and mints an access token from the claims stored
+ * with it, so refreshing costs one indexed lookup and a signature, never a password hash.
+ * A token can be exchanged once; presenting an already used token means it was copied,
+ * and the whole family is revoked.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final Duration refreshTokenTtl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtService jwtService,
+                               TokenVersionRegistry tokenVersionRegistry,
+                               @Value("${blog.jwt.refresh.ttl-days:14}") long refreshTokenTtlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.refreshTokenTtl = Duration.ofDays(refreshTokenTtlDays);
+    }
+
+    /**
+     * Starts a new session for a freshly authenticated user.
+     */
+    @Transactional
+    public AuthResponse startSession(UserPrincipal principal) {
+        RefreshTokenEntity session = RefreshTokenEntity.builder()
+                .familyId(randomToken(16))
+                .userId(principal.getId())
+                .username(principal.getUsername())
+                .roles(String.join(",", principal.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList()))
+                .userVersion(principal.getTokenVersion())
+                .build();
+
+        return issue(session);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair.
+     * Rejections that revoke the family must still commit, hence {@code noRollbackFor}.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        if (current.isRevoked()) {
+            throw new InvalidRefreshTokenException("Refresh token has been revoked");
+        }
+
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+
+        // Roles or account changed since login; the user has to sign in again
+        if (!tokenVersionRegistry.isCurrent(current.getUserId(), current.getUserVersion())) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token is no longer valid. Please log in again.");
+        }
+
+        // Conditional update, so two concurrent exchanges of the same token cannot both win
+        if (current.getUsedAt() != null || refreshTokenRepository.markUsed(current.getId(), Instant.now()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}; revoked {} tokens of session {}",
+                    current.getUserId(), revoked, current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        RefreshTokenEntity next = RefreshTokenEntity.builder()
+                .familyId(current.getFamilyId())
+                .userId(current.getUserId())
+                .username(current.getUsername())
+                .roles(current.getRoles())
+                .userVersion(current.getUserVersion())
+                .build();
+
+        return issue(next);
+    }
+
+    /**
+     * Ends one session, e.g. on logout of the device that holds it.
+     */
+    @Transactional
+    public void revokeSession(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    @Transactional
+    public void revokeAllSessions(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.jwt.refresh.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private AuthResponse issue(RefreshTokenEntity session) {
+        String refreshToken = randomToken(32);
+        Instant now = Instant.now();
+
+        session.setTokenHash(TokenDigest.sha256(refreshToken));
+        session.setCreatedAt(now);
+        session.setExpiresAt(now.plus(refreshTokenTtl));
+        refreshTokenRepository.save(session);
+
+        String accessToken = jwtService.generateAccessToken(
+                session.getUsername(),
+                session.getUserId(),
+                session.getUserVersion(),
+                splitRoles(session.getRoles()),
+                session.getFamilyId()
+        );
+
+        return new AuthResponse(accessToken, refreshToken);
+    }
+
+    private static List<String> splitRoles(String roles) {
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
+    }
+
+    // High-entropy random value, so a plain SHA-256 digest is enough for storage
+    private static String randomToken(int bytes) {
+        byte[] value = new byte[bytes];
+        RANDOM.nextBytes(value);
+        return ENCODER.encodeToString(value);
+    }
+}
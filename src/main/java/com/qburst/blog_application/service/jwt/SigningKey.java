@@ -0,0 +1,45 @@
+package com.qburst.blog_application.service.jwt;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+
+/**
+ * A key pair used to sign access tokens, identified by the {@code kid} header.
+ *
+ * @param keyId      the {@code kid}, the RFC 7638 thumbprint of the public key
+ * @param algorithm  the algorithm the key signs with
+ * @param privateKey signing key, {@code null} for keys that may only verify
+ * @param publicKey  verification key, published through the JWKS endpoint
+ * @param createdAt  when the key was loaded or generated
+ */
+public record SigningKey(
+        String keyId,
+        JwtAlgorithm algorithm,
+        PrivateKey privateKey,
+        PublicKey publicKey,
+        Instant createdAt
+) {
+
+    public static SigningKey of(JwtAlgorithm algorithm, KeyPair keyPair) {
+        return of(algorithm, keyPair.getPrivate(), keyPair.getPublic());
+    }
+
+    public static SigningKey of(JwtAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+        // The thumbprint is derived from the key itself, so every node computes the same kid
+        String keyId = Jwks.builder().key(publicKey).build().thumbprint().toString();
+        return new SigningKey(keyId, algorithm, privateKey, publicKey, Instant.now());
+    }
+
+    public PublicJwk<?> toJwk() {
+        return Jwks.builder().key(publicKey)
+                .id(keyId)
+                .algorithm(algorithm.getJwaId())
+                .publicKeyUse("sig")
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.qburst.blog_application.service.jwt;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The keys currently trusted for access tokens: one active signing key plus the
+ * keys it replaced, kept for verification until tokens signed with them expire.
+ * <p>
+ * The configured key is loaded once at startup. When rotation is enabled a fresh
+ * key pair of the same algorithm is generated on schedule. Generated keys live only
+ * in this instance, so rotation is meant for single-instance deployments; clustered
+ * deployments should rotate by deploying new key files.
+ * <p>
+ * The ring is replaced as a whole on every change, so the request path reads one
+ * immutable snapshot without locking.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing extends LocatorAdapter<Key> {
+
+    private final SigningKey configuredKey;
+    private final boolean rotationEnabled;
+    private final Duration retainRetired;
+
+    private volatile Snapshot snapshot;
+
+    public SigningKeyRing(SigningKey configuredKey,
+                          @Value("${blog.jwt.signing.rotation-enabled:false}") boolean rotationEnabled,
+                          @Value("${blog.jwt.signing.retain-retired-ms:3600000}") long retainRetiredMillis) {
+        this.configuredKey = configuredKey;
+        this.rotationEnabled = rotationEnabled;
+        this.retainRetired = Duration.ofMillis(retainRetiredMillis);
+        this.snapshot = new Snapshot(List.of(configuredKey));
+    }
+
+    public SigningKey getActiveKey() {
+        return snapshot.keys.get(0);
+    }
+
+    /**
+     * All keys that may still verify tokens, the active one first.
+     */
+    public List<SigningKey> getVerificationKeys() {
+        return snapshot.keys;
+    }
+
+    /**
+     * Resolves the verification key from the {@code kid} header. Tokens issued before
+     * key ids were introduced carry none and are checked against the configured key.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        SigningKey key = keyId == null ? configuredKey : snapshot.byId.get(keyId);
+
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + keyId);
+        }
+        // The key decides the algorithm, never the token
+        if (!key.algorithm().getJwaId().equals(header.getAlgorithm())) {
+            throw new SignatureException("Token algorithm does not match signing key " + key.keyId());
+        }
+        return key.publicKey();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.jwt.signing.rotation-interval-ms:86400000}",
+            initialDelayString = "${blog.jwt.signing.rotation-interval-ms:86400000}")
+    public void rotate() {
+        if (!rotationEnabled) {
+            return;
+        }
+
+        List<SigningKey> current = snapshot.keys;
+        JwtAlgorithm algorithm = current.get(0).algorithm();
+        SigningKey next = SigningKey.of(algorithm, algorithm.generateKeyPair());
+
+        // Retired keys stop signing immediately but keep verifying until their tokens have
+        // expired; a key was retired when the key before it in the list was created
+        Instant cutoff = Instant.now().minus(retainRetired);
+        List<SigningKey> keys = new ArrayList<>();
+        keys.add(next);
+        keys.add(current.get(0));
+        for (int i = 1; i < current.size() && current.get(i - 1).createdAt().isAfter(cutoff); i++) {
+            keys.add(current.get(i));
+        }
+
+        snapshot = new Snapshot(keys);
+        log.info("Rotated JWT signing key to {} ({}), {} keys trusted for verification",
+                next.keyId(), next.algorithm(), keys.size());
+    }
+
+    private static final class Snapshot {
+
+        private final List<SigningKey> keys;
+        private final Map<String, SigningKey> byId;
+
+        private Snapshot(List<SigningKey> keys) {
+            Map<String, SigningKey> index = new LinkedHashMap<>();
+            keys.forEach(key -> index.put(key.keyId(), key));
+            this.keys = List.copyOf(keys);
+            this.byId = Map.copyOf(index);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.qburst.blog_application.service.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Result of parsing and signature-verifying a JWT exactly once.
+ * Instances are immutable and shared between requests carrying the same token.
+ *
+ * @param digest      SHA-256 digest of the raw token, used as the cache key
+ * @param tokenId     the {@code jti} claim, {@code null} for tokens issued before it existed
+ * @param subject     the {@code sub} claim (username)
+ * @param userId      the {@code uid} claim, {@code null} for tokens issued before it existed
+ * @param userVersion the {@code ver} claim, compared against the user's current token version
+ * @param roles       the {@code role} claim as plain authority names
+ * @param sessionId   the {@code sid} claim, the refresh token family the token was issued for, may be {@code null}
+ * @param issuedAt    the {@code iat} claim, may be {@code null}
+ * @param expiresAt   the {@code exp} claim, may be {@code null}
+ * @param claims      the full verified claim set
+ */
+public record VerifiedToken(
+        String digest,
+        String tokenId,
+        String subject,
+        Long userId,
+        int userVersion,
+        List<String> roles,
+        String sessionId,
+        Instant issuedAt,
+        Instant expiresAt,
+        Claims claims
+) {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String USER_VERSION_CLAIM = "ver";
+    public static final String ROLE_CLAIM = "role";
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    static VerifiedToken from(String digest, Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        Object userVersion = claims.get(USER_VERSION_CLAIM);
+
+        return new VerifiedToken(
+                digest,
+                claims.getId(),
+                claims.getSubject(),
+                userId instanceof Number id ? id.longValue() : null,
+                userVersion instanceof Number version ? version.intValue() : 0,
+                parseRoles(claims.get(ROLE_CLAIM)),
+                claims.get(SESSION_ID_CLAIM, String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims
+        );
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+
+    /**
+     * Key under which this token is revoked: the short {@code jti} when present,
+     * otherwise the digest of the whole token.
+     */
+    public String revocationKey() {
+        return tokenId != null ? tokenId : digest;
+    }
+
+    /**
+     * Whether the token was issued before the given "not before" watermark.
+     * {@code iat} has second precision, so the watermark is compared at that precision.
+     */
+    public boolean issuedBefore(Instant watermark) {
+        return issuedAt == null || issuedAt.getEpochSecond() < watermark.getEpochSecond();
+    }
+
+    // Accepts plain strings and the {"authority": "..."} objects written by older tokens
+    private static List<String> parseRoles(Object claim) {
+        if (!(claim instanceof Collection<?> values)) {
+            return List.of();
+        }
+
+        return values.stream()
+                .map(value -> value instanceof Map<?, ?> map ? map.get("authority") : value)
+                .filter(value -> value != null)
+                .map(Object::toString)
+                .toList();
+    }
+}
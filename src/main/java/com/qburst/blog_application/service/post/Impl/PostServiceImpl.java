@@ -1,35 +1,83 @@
 package com.qburst.blog_application.service.post.Impl;
 
 import com.qburst.blog_application.dto.request.post.PostRequest;
+import com.qburst.blog_application.dto.response.common.CursorSliceResponse;
+import com.qburst.blog_application.dto.response.common.SliceResponse;
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
 import com.qburst.blog_application.dto.response.post.PostResponse;
+import com.qburst.blog_application.dto.response.post.PostSearchResponse;
 import com.qburst.blog_application.entity.PostEntity;
 import com.qburst.blog_application.entity.CategoryEntity;
+import com.qburst.blog_application.entity.TagEntity;
 import com.qburst.blog_application.entity.UserEntity;
 import com.qburst.blog_application.exception.post.PostNotFoundException;
 import com.qburst.blog_application.exception.category.CategoryNotFoundException;
 import com.qburst.blog_application.exception.user.UserNotFoundException;
 import com.qburst.blog_application.mapper.PostMapper;
 import com.qburst.blog_application.repository.PostRepository;
+import com.qburst.blog_application.repository.PostSearchRepository;
 import com.qburst.blog_application.repository.CategoryRepository;
 import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.service.post.PostCardAssembler;
+import com.qburst.blog_application.service.post.PostCountRegistry;
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostDetailCache;
 import com.qburst.blog_application.service.post.PostService;
+import com.qburst.blog_application.service.post.PostVersion;
+import com.qburst.blog_application.service.post.PostViewCounter;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+import com.qburst.blog_application.service.post.feed.FeedCursor;
+import com.qburst.blog_application.service.post.render.MarkdownRenderer;
+import com.qburst.blog_application.service.post.search.SearchQueryParser;
+import com.qburst.blog_application.service.post.slug.SlugAllocator;
+import com.qburst.blog_application.service.post.trending.TrendingPostRanker;
+import com.qburst.blog_application.service.support.ListingTotals;
+import com.qburst.blog_application.service.support.ListingRevisions;
+import com.qburst.blog_application.service.support.ListingVersion;
+import com.qburst.blog_application.service.tag.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
+    private final PostSearchRepository postSearchRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final PostMapper postMapper;
+    private final PostCountRegistry postCountRegistry;
+    private final ListingRevisions listingRevisions;
+    private final PostViewCounter postViewCounter;
+    private final PostCardAssembler postCardAssembler;
+    private final TrendingPostRanker trendingPostRanker;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailBytesCache postDetailBytesCache;
+    private final SlugAllocator slugAllocator;
+    private final TagService tagService;
+    private final PostContentStorage postContentStorage;
+    private final MarkdownRenderer markdownRenderer;
+
+    @Value("${blog.feed.max-page-size:50}")
+    private int maxFeedPageSize;
 
     @Transactional
     @Override
@@ -42,41 +90,40 @@ public class PostServiceImpl implements PostService {
         CategoryEntity category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new CategoryNotFoundException("Category ID: '" + request.categoryId() + "' does not exist"));
 
-        // Use the unique slug generator
-        String uniqueSlug = generateUniqueSlug(request.title());
+        // Unique by construction, no existence check needed
+        String uniqueSlug = slugAllocator.allocate(request.title());
+        Set<TagEntity> tags = tagService.intern(request.tags());
 
         // Map Record DTO to Entity
         PostEntity post = PostEntity.builder()
                 .title(request.title())
-                .content(request.content())
                 .summary(request.summary())
                 .imageUrl(request.imageUrl())
                 .isPublished(request.published())
-                .tags(request.tags())
+                .tags(tags)
                 .slug(uniqueSlug)
                 .author(author)   // Link existing User entity
                 .category(category) // Link existing Category entity
                 .build();
+        writeContent(post, request.content());
 
         PostEntity savedPost = postRepository.save(post);
+        postContentStorage.indexContent(savedPost, request.content());
+
+        if (Boolean.TRUE.equals(savedPost.getIsPublished())) {
+            postCountRegistry.recordPublished(category.getId(), author.getId(), 1);
+            tagService.recordPublished(Set.of(), tags);
+        }
 
         // Return the Response Record
         return mapToResponse(savedPost);
     }
 
-    private String generateUniqueSlug(String title) {
-        String baseSlug = title.toLowerCase()
-                .replaceAll("[^a-z0-9\\s]", "")
-                .replace(" ", "-");
-
-        String finalSlug;
-        do {
-            String suffix = UUID.randomUUID().toString().substring(0, 5);
-            finalSlug = baseSlug + "-" + suffix;
-            // Only loop if the slug is taken by an ACTIVE post
-        } while (postRepository.existsBySlug(finalSlug));
-
-        return finalSlug;
+    // Stores the Markdown and its rendered HTML; the HTML is never rendered on read
+    private void writeContent(PostEntity post, String content) {
+        postContentStorage.write(post, content);
+        post.setContentHtml(markdownRenderer.render(content));
+        post.setRenderVersion(MarkdownRenderer.VERSION);
     }
 
     private PostResponse mapToResponse(PostEntity post) {
@@ -85,30 +132,181 @@ public class PostServiceImpl implements PostService {
                 post.getTitle(),
                 post.getSlug(),
                 post.getContent(),
+                post.getContentHtml(),
                 post.getSummary(),
                 post.getImageUrl(),
                 post.getCategory() != null ? post.getCategory().getName() : "Uncategorized",
                 post.getAuthor().getFirstname() + " " + post.getAuthor().getLastname(),
-                post.getTags(),
+                post.getTags().stream().map(TagEntity::getName).collect(Collectors.toUnmodifiableSet()),
                 post.getViewCount(),
                 post.getIsPublished(),
                 post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.getUpdatedAt(),
+                post.getRenderVersion()
         );
     }
 
-    @Transactional(readOnly = true)
+    // No transaction here: cache hits should not touch a connection, and the detail
+    // query fetches everything mapToResponse reads
     public PostResponse getPostBySlug(String slug) {
-        return postRepository.findBySlug(slug)
+        return postDetailCache.get(slug, key -> postRepository.findDetailBySlug(key)
                 .map(this::mapToResponse) // Convert Entity to Record DTO
-                .orElseThrow(() -> new PostNotFoundException("Post not found with slug: " + slug));
+                .orElseThrow(() -> new PostNotFoundException("Post not found with slug: " + key)));
+    }
+
+    /**
+     * Reads the post and counts the read as a view. The count is buffered in memory
+     * and reaches {@code view_count} with the next flush of {@link PostViewCounter}.
+     */
+    public PostResponse getPostBySlug(String slug, String viewerKey, String userAgent) {
+        PostResponse post = getPostBySlug(slug);
+        postViewCounter.recordView(post.id(), viewerKey, userAgent);
+        return post;
+    }
+
+    /**
+     * Like {@link #getPostBySlug(String, String, String)}, but returns the serialized response.
+     * When the bytes of {@code version} are cached, the read costs a lookup and a view count.
+     *
+     * @param version the post's current version, or {@code null} when unknown
+     */
+    public PostDetailBytesCache.Rendered getRenderedPostBySlug(String slug, PostVersion version,
+                                                              String viewerKey, String userAgent) {
+        PostDetailBytesCache.Rendered cached = version != null ? postDetailBytesCache.getIfCurrent(slug, version) : null;
+        if (cached != null) {
+            postViewCounter.recordView(cached.version().id(), viewerKey, userAgent);
+            return cached;
+        }
+        return postDetailBytesCache.render(slug, getPostBySlug(slug, viewerKey, userAgent));
+    }
+
+    /**
+     * Counts a read that was answered without the post, e.g. a 304 revalidation.
+     */
+    public void recordView(Long postId, String viewerKey, String userAgent) {
+        postViewCounter.recordView(postId, viewerKey, userAgent);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostResponse> getAllPublishedPosts(Pageable pageable) {
-        Page<PostEntity> blogs = postRepository.findByIsPublishedTrueOrderByCreatedAtDesc(pageable);
+    public Page<PostCardResponse> getAllPublishedPosts(Pageable pageable) {
+        Slice<PostCardResponse> blogs = postRepository.findPublishedCards(pageable);
+
+        return ListingTotals.toPage(postCardAssembler.withTags(blogs), postCountRegistry.publishedTotal());
+    }
 
-        return blogs.map(postMapper::toResponse);
+    /**
+     * Served from the detail cache when the post is cached, otherwise from an
+     * index-only query; the post itself is never loaded.
+     */
+    @Override
+    public Optional<PostVersion> getPostVersion(String slug) {
+        PostResponse cached = postDetailCache.getIfPresent(slug);
+        if (cached != null) {
+            return Optional.of(new PostVersion(cached.id(), cached.updatedAt(), cached.renderVersion()));
+        }
+        return postRepository.findVersionBySlug(slug);
+    }
+
+    @Override
+    public ListingVersion getPublishedVersion() {
+        return new ListingVersion(postRepository.findLastPublishedUpdate(), postCountRegistry.publishedTotal(),
+                listingRevisions.revision(ListingRevisions.PUBLISHED));
+    }
+
+    @Override
+    public ListingVersion getCategoryListingVersion(Long categoryId) {
+        return new ListingVersion(postRepository.findLastPublishedUpdateInCategory(categoryId),
+                postCountRegistry.publishedInCategory(categoryId),
+                listingRevisions.revision(ListingRevisions.category(categoryId)));
+    }
+
+    @Override
+    public ListingVersion getAuthorListingVersion(Long authorId) {
+        return new ListingVersion(postRepository.findLastPublishedUpdateByAuthor(authorId),
+                postCountRegistry.publishedByAuthor(authorId),
+                listingRevisions.revision(ListingRevisions.author(authorId)));
+    }
+
+    /**
+     * Tags have no {@code updated_at} index of their own, so the newest published post overall
+     * stands in for the tag's: any edit changes the tag's ETags, but it stays one index probe.
+     */
+    @Override
+    public ListingVersion getTagListingVersion(String tag) {
+        return tagService.findTag(tag)
+                .map(found -> new ListingVersion(postRepository.findLastPublishedUpdate(), found.getPostCount(),
+                        listingRevisions.revision(ListingRevisions.tag(found.getId()))))
+                .orElse(new ListingVersion(null, 0));
+    }
+
+    @Override
+    public List<PostCardResponse> getTrending(int limit) {
+        return trendingPostRanker.top(Math.clamp(limit, 1, trendingPostRanker.getTopK()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostCardResponse> getFeed(String cursor, int size) {
+        return feedPage(cursor, size, postRepository::findFeed, postRepository::findFeedAfter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostCardResponse> getFeedByUser(Long userId, String cursor, int size) {
+        return feedPage(cursor, size,
+                limit -> postRepository.findAuthorFeed(userId, limit),
+                (createdAt, id, limit) -> postRepository.findAuthorFeedAfter(userId, createdAt, id, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostCardResponse> getFeedByCategory(Long categoryId, String cursor, int size) {
+        return feedPage(cursor, size,
+                limit -> postRepository.findCategoryFeed(categoryId, limit),
+                (createdAt, id, limit) -> postRepository.findCategoryFeedAfter(categoryId, createdAt, id, limit));
+    }
+
+    // Seeks past the cursor instead of skipping rows, so every page costs the same;
+    // one extra row is read to tell whether another page follows, so no count is needed
+    private CursorSliceResponse<PostCardResponse> feedPage(String cursor, int size,
+                                                           Function<Pageable, List<PostCardResponse>> firstPage,
+                                                           SeekQuery nextPage) {
+        int limit = Math.clamp(size, 1, maxFeedPageSize);
+        FeedCursor position = FeedCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<PostCardResponse> rows = position == null
+                ? firstPage.apply(window)
+                : nextPage.find(position.createdAt(), position.id(), window);
+
+        boolean hasNext = rows.size() > limit;
+        List<PostCardResponse> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostCardResponse last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new CursorSliceResponse<>(postCardAssembler.withTags(page), limit, hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostCardResponse> getFeedByTag(String tag, String cursor, int size) {
+        Optional<Long> tagId = tagService.findTagId(tag);
+        if (tagId.isEmpty()) {
+            return new CursorSliceResponse<>(List.of(), Math.clamp(size, 1, maxFeedPageSize), false, null);
+        }
+
+        return feedPage(cursor, size,
+                limit -> postRepository.findTagFeed(tagId.get(), limit),
+                (createdAt, id, limit) -> postRepository.findTagFeedAfter(tagId.get(), createdAt, id, limit));
+    }
+
+    @FunctionalInterface
+    private interface SeekQuery {
+        List<PostCardResponse> find(LocalDateTime createdAt, Long id, Pageable limit);
     }
 
     @Override
@@ -119,7 +317,8 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public PostResponse updatePost(String slug, PostRequest request) {
-        PostEntity existingPost = postRepository.findBySlug(slug)
+        // Author, category and tags are all needed for the response, so load them up front
+        PostEntity existingPost = postRepository.findDetailBySlug(slug)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with slug: " + slug));
 
         // Security Check: Only the author can update
@@ -128,6 +327,10 @@ public class PostServiceImpl implements PostService {
 //            throw new UnauthorizedException("You are not authorized to update this post.");
 //        }
 
+        boolean wasPublished = Boolean.TRUE.equals(existingPost.getIsPublished());
+        Long previousCategoryId = existingPost.getCategory() != null ? existingPost.getCategory().getId() : null;
+        Set<TagEntity> previousTags = Set.copyOf(existingPost.getTags());
+
         // Category Update: If ID changed, fetch the new entity
         if (!existingPost.getCategory().getId().equals(request.categoryId())) {
             CategoryEntity newCategory = categoryRepository.findById(request.categoryId())
@@ -139,8 +342,43 @@ public class PostServiceImpl implements PostService {
 
         // Note: ignored categoryId in Mapper to avoid conflicts
         postMapper.updateEntityFromDto(request, existingPost);
+        writeContent(existingPost, request.content());
+
+        // Edit the loaded collection in place so only changed links are written
+        Set<TagEntity> tags = tagService.intern(request.tags());
+        existingPost.getTags().retainAll(tags);
+        existingPost.getTags().addAll(tags);
+
+        // Links live in their own table, so a tag-only edit would leave the row, and with it
+        // updated_at and every ETag derived from it, untouched
+        if (!previousTags.equals(existingPost.getTags())) {
+            existingPost.setUpdatedAt(LocalDateTime.now());
+        }
 
         PostEntity updatedPost = postRepository.save(existingPost);
+        postContentStorage.indexContent(updatedPost, request.content());
+
+        // Move the post between published totals when its state or category changed
+        boolean isPublished = Boolean.TRUE.equals(updatedPost.getIsPublished());
+        Long categoryId = updatedPost.getCategory() != null ? updatedPost.getCategory().getId() : null;
+        Long authorId = updatedPost.getAuthor().getId();
+        if (wasPublished != isPublished || (isPublished && !Objects.equals(previousCategoryId, categoryId))) {
+            if (wasPublished) {
+                postCountRegistry.recordPublished(previousCategoryId, authorId, -1);
+            }
+            if (isPublished) {
+                postCountRegistry.recordPublished(categoryId, authorId, 1);
+            }
+        }
+        tagService.recordPublished(wasPublished ? previousTags : Set.of(), isPublished ? tags : Set.of());
+        if (wasPublished) {
+            listingRevisions.bumpAfterCommit(scopesLeft(isPublished, authorId, previousCategoryId, categoryId,
+                    previousTags, isPublished ? tags : Set.of()));
+        }
+
+        postDetailCache.invalidateAfterCommit(updatedPost.getSlug());
+        postDetailBytesCache.invalidateAfterCommit(updatedPost.getSlug());
+
         return postMapper.toResponse(updatedPost);
     }
 
@@ -155,43 +393,90 @@ public class PostServiceImpl implements PostService {
 //        PostEntity post = postRepository.findBySlugAndAuthorId(slug, currentUserId)
 //                .orElseThrow(() -> new UnauthorizedException("You do not own this post, or it doesn't exist."));
 
+        // The links stay with the soft-deleted row, but the post no longer counts for its tags
+        if (Boolean.TRUE.equals(post.getIsPublished())) {
+            tagService.recordPublished(Set.copyOf(post.getTags()), Set.of());
+        }
+
         // Perform soft delete
         postRepository.delete(post);
+        postDetailCache.invalidateAfterCommit(slug);
+        postDetailBytesCache.invalidateAfterCommit(slug);
+
+        if (Boolean.TRUE.equals(post.getIsPublished())) {
+            Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+            postCountRegistry.recordPublished(categoryId, post.getAuthor().getId(), -1);
+            listingRevisions.bumpAfterCommit(scopesLeft(false, post.getAuthor().getId(), categoryId, null,
+                    post.getTags(), Set.of()));
+        }
+    }
+
+    /**
+     * Listing scopes a published post drops out of. Its own {@code updated_at} leaves those
+     * scopes with it, so their newest modification cannot be relied on to move.
+     */
+    private static List<String> scopesLeft(boolean stillPublished, Long authorId, Long previousCategoryId,
+                                           Long categoryId, Collection<TagEntity> previousTags,
+                                           Collection<TagEntity> tags) {
+        List<String> scopes = new ArrayList<>();
+        if (!stillPublished) {
+            scopes.add(ListingRevisions.PUBLISHED);
+            scopes.add(ListingRevisions.author(authorId));
+        }
+        if (previousCategoryId != null && (!stillPublished || !previousCategoryId.equals(categoryId))) {
+            scopes.add(ListingRevisions.category(previousCategoryId));
+        }
+        for (TagEntity tag : previousTags) {
+            if (!tags.contains(tag)) {
+                scopes.add(ListingRevisions.tag(tag.getId()));
+            }
+        }
+        return scopes;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PostResponse getPostById(Long blogId) {
-        return postRepository.findById(blogId)
+        return postRepository.findDetailById(blogId)
                 .map(this::mapToResponse) // Convert Entity to Record DTO
                 .orElseThrow(() -> new PostNotFoundException("Post not found with ID: " + blogId));
     }
 
     @Override
-    public Page<PostResponse> searchPost(Pageable pageable, String keywords) {
-        Page<PostEntity> posts = postRepository.findByTitleContainingOrContentContaining(keywords, keywords, pageable);
+    public SliceResponse<PostSearchResponse> searchPost(Pageable pageable, String keywords) {
+        String tsQuery = SearchQueryParser.toTsQuery(keywords);
 
-        return posts.map(postMapper::toResponse);
+        // Nothing searchable in the input (only punctuation or exclusions)
+        if (tsQuery == null) {
+            return new SliceResponse<>(List.of(), pageable.getPageNumber(), pageable.getPageSize(), false);
+        }
+
+        return SliceResponse.of(postSearchRepository.search(tsQuery, pageable));
     }
 
     @Override
-    public Page<PostResponse> getPostByCategory(Pageable pageable, Long categoryId) {
-        Page<PostEntity> authorPosts = postRepository.findByCategoryId(categoryId, pageable);
+    @Transactional(readOnly = true)
+    public Page<PostCardResponse> getPostByCategory(Pageable pageable, Long categoryId) {
+        Slice<PostCardResponse> authorPosts = postRepository.findPublishedCardsByCategory(categoryId, pageable);
 
         if (authorPosts.isEmpty()) {
             throw new PostNotFoundException("Post not found for User: " + categoryId);
         }
 
-        return authorPosts.map(postMapper::toResponse);
+        return ListingTotals.toPage(postCardAssembler.withTags(authorPosts),
+                postCountRegistry.publishedInCategory(categoryId));
     }
 
     @Override
-    public Page<PostResponse> getPostByUser(Pageable pageable, Long userId) {
-        Page<PostEntity> authorPosts = postRepository.findByAuthorId(userId, pageable);
+    @Transactional(readOnly = true)
+    public Page<PostCardResponse> getPostByUser(Pageable pageable, Long userId) {
+        Slice<PostCardResponse> authorPosts = postRepository.findPublishedCardsByAuthor(userId, pageable);
 
         if (authorPosts.isEmpty()) {
             throw new PostNotFoundException("Post not found for User: " + userId);
         }
 
-        return authorPosts.map(postMapper::toResponse);
+        return ListingTotals.toPage(postCardAssembler.withTags(authorPosts),
+                postCountRegistry.publishedByAuthor(userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.qburst.blog_application.service.post;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
+import com.qburst.blog_application.repository.PostRepository;
+
+/**
+ * Completes {@link PostCardResponse}s selected by the card queries in {@link PostRepository}
+ * with their tags, using one query per page instead of one collection load per post.
+ */
+@Component
+public class PostCardAssembler {
+
+    private final PostRepository postRepository;
+
+    public PostCardAssembler(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public List<PostCardResponse> withTags(List<PostCardResponse> cards) {
+        if (cards.isEmpty()) {
+            return cards;
+        }
+
+        Map<Long, Set<String>> tagsByPost = new HashMap<>();
+        for (Object[] row : postRepository.findTagsByPostIds(cards.stream().map(PostCardResponse::id).toList())) {
+            tagsByPost.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>()).add((String) row[1]);
+        }
+
+        return cards.stream()
+                .map(card -> card.withTags(tagsByPost.getOrDefault(card.id(), Set.of())))
+                .toList();
+    }
+
+    public Slice<PostCardResponse> withTags(Slice<PostCardResponse> cards) {
+        return new SliceImpl<>(withTags(cards.getContent()), cards.getPageable(), cards.hasNext());
+    }
+}
@@ -0,0 +1,112 @@
+package com.qburst.blog_application.service.post;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.repository.PostRepository;
+import com.qburst.blog_application.service.support.TransactionCallbacks;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Totals of published, non-deleted posts: overall, per category and per author.
+ * <p>
+ * Paged listings use these instead of running {@code count(*)} next to every page.
+ * Changes made through this node are applied after commit; a periodic reconcile
+ * re-reads the grouped counts, which also picks up changes made on other nodes.
+ * Totals can therefore lag by up to one reconcile interval. Until the first load
+ * completes, exact counts are queried instead.
+ */
+@Slf4j
+@Service
+public class PostCountRegistry {
+
+    private final PostRepository postRepository;
+
+    private final AtomicLong published = new AtomicLong();
+    private volatile Map<Long, AtomicLong> byCategory = new ConcurrentHashMap<>();
+    private volatile Map<Long, AtomicLong> byAuthor = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public PostCountRegistry(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public long publishedTotal() {
+        return ready ? published.get() : postRepository.countByIsPublishedTrue();
+    }
+
+    public long publishedInCategory(Long categoryId) {
+        return lookup(byCategory, categoryId, () -> postRepository.countByCategoryIdAndIsPublishedTrue(categoryId));
+    }
+
+    public long publishedByAuthor(Long authorId) {
+        return lookup(byAuthor, authorId, () -> postRepository.countByAuthorIdAndIsPublishedTrue(authorId));
+    }
+
+    /**
+     * Records that a post entered ({@code delta = 1}) or left ({@code delta = -1}) the published set.
+     * Applied once the current transaction commits.
+     */
+    public void recordPublished(Long categoryId, Long authorId, int delta) {
+        TransactionCallbacks.afterCommit(() -> {
+            published.addAndGet(delta);
+            adjust(byCategory, categoryId, delta);
+            adjust(byAuthor, authorId, delta);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.counts.reconcile-interval-ms:600000}",
+            initialDelayString = "${blog.counts.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Map<Long, AtomicLong> categories = toCounters(postRepository.countPublishedByCategory());
+            Map<Long, AtomicLong> authors = toCounters(postRepository.countPublishedByAuthor());
+            long total = postRepository.countByIsPublishedTrue();
+
+            byCategory = categories;
+            byAuthor = authors;
+            published.set(total);
+            ready = true;
+        } catch (RuntimeException ex) {
+            log.warn("Reconciling post counts failed: {}", ex.getMessage());
+        }
+    }
+
+    private long lookup(Map<Long, AtomicLong> counts, Long key, LongSupplier exact) {
+        if (!ready) {
+            return exact.getAsLong();
+        }
+        AtomicLong count = counts.get(key);
+        return count == null ? 0 : Math.max(count.get(), 0);
+    }
+
+    private static void adjust(Map<Long, AtomicLong> counts, Long key, int delta) {
+        if (key != null) {
+            counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    private static Map<Long, AtomicLong> toCounters(List<Object[]> rows) {
+        Map<Long, AtomicLong> counters = new ConcurrentHashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counters.put(((Number) row[0]).longValue(), new AtomicLong(((Number) row[1]).longValue()));
+            }
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,105 @@
+package com.qburst.blog_application.service.post;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qburst.blog_application.dto.response.post.PostResponse;
+import com.qburst.blog_application.service.support.TransactionCallbacks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Post detail responses as finished JSON bytes, plus a gzip variant, keyed by slug.
+ * <p>
+ * Hot posts are serialized and compressed once per version instead of once per request.
+ * An entry is only served while its {@link PostVersion} matches the post's current one,
+ * and writers also drop the slug after commit. Entries expire after
+ * {@code blog.post-cache.ttl-seconds} like {@link PostDetailCache}, so the serialized
+ * view count lags by no more than that. The cache is bounded by total bytes, and
+ * Caffeine's frequency-based admission keeps the most requested posts.
+ * <p>
+ * Hits, misses and evictions are exported as the {@code cache.*} meters with
+ * {@code cache=post.detail.bytes}.
+ */
+@Component
+public class PostDetailBytesCache {
+
+    /**
+     * A serialized post; {@code gzip} is {@code null} when compressing does not pay off.
+     */
+    public record Rendered(PostVersion version, byte[] json, byte[] gzip) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int minGzipBytes;
+    private final Cache<String, Rendered> posts;
+
+    public PostDetailBytesCache(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${blog.post-bytes-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${blog.post-cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${blog.post-bytes-cache.min-gzip-bytes:1024}") int minGzipBytes) {
+        this.objectMapper = objectMapper;
+        this.minGzipBytes = minGzipBytes;
+        this.posts = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String slug, Rendered rendered) ->
+                        rendered.json().length + (rendered.gzip() != null ? rendered.gzip().length : 0))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "post.detail.bytes");
+    }
+
+    /**
+     * The cached bytes of the slug if they were rendered from {@code version}, otherwise {@code null}.
+     */
+    public Rendered getIfCurrent(String slug, PostVersion version) {
+        Rendered rendered = posts.getIfPresent(slug);
+        return rendered != null && rendered.version().equals(version) ? rendered : null;
+    }
+
+    /**
+     * Serializes and compresses the post and caches the result. A render of an older
+     * version that races with an update is harmless: it fails the version check.
+     */
+    public Rendered render(String slug, PostResponse post) {
+        byte[] json = objectMapper.writeValueAsBytes(post);
+        byte[] gzip = json.length >= minGzipBytes ? gzip(json) : null;
+        if (gzip != null && gzip.length >= json.length) {
+            gzip = null;
+        }
+
+        Rendered rendered = new Rendered(new PostVersion(post.id(), post.updatedAt(), post.renderVersion()), json, gzip);
+        posts.put(slug, rendered);
+        return rendered;
+    }
+
+    /**
+     * Drops the slug once the current transaction commits, or immediately when there is none.
+     */
+    public void invalidateAfterCommit(String slug) {
+        TransactionCallbacks.afterCommit(() -> posts.invalidate(slug));
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3 + 32);
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            compressed.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,63 @@
+package com.qburst.blog_application.service.post;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qburst.blog_application.dto.response.post.PostResponse;
+import com.qburst.blog_application.service.support.TransactionCallbacks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of post detail responses keyed by slug, bounded by size and TTL.
+ * <p>
+ * Writers invalidate a slug once their transaction has committed. A load that is still
+ * running at that moment may have read the old row, but Caffeine makes the invalidation
+ * wait for the in-flight load of the same key and then removes its result, so no stale
+ * entry survives a commit. Missing posts are not cached.
+ * <p>
+ * Hits, misses and evictions are exported as the {@code cache.*} meters with
+ * {@code cache=post.detail}.
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<String, PostResponse> posts;
+
+    public PostDetailCache(@Value("${blog.post-cache.max-size:10000}") long maxSize,
+                           @Value("${blog.post-cache.ttl-seconds:300}") long ttlSeconds,
+                           MeterRegistry meterRegistry) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "post.detail");
+    }
+
+    public PostResponse get(String slug, Function<String, PostResponse> loader) {
+        return posts.get(slug, loader);
+    }
+
+    /**
+     * The cached response, or {@code null}; never loads. Read through the map view so
+     * validator checks do not count towards the hit and miss statistics.
+     */
+    public PostResponse getIfPresent(String slug) {
+        return posts.asMap().get(slug);
+    }
+
+    /**
+     * Drops the slug once the current transaction commits, or immediately when there is none.
+     */
+    public void invalidateAfterCommit(String slug) {
+        TransactionCallbacks.afterCommit(() -> posts.invalidate(slug));
+    }
+}
@@ -1,10 +1,18 @@
 package com.qburst.blog_application.service.post;
 
 import com.qburst.blog_application.dto.request.post.PostRequest;
+import com.qburst.blog_application.dto.response.common.CursorSliceResponse;
+import com.qburst.blog_application.dto.response.common.SliceResponse;
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
 import com.qburst.blog_application.dto.response.post.PostResponse;
+import com.qburst.blog_application.dto.response.post.PostSearchResponse;
+import com.qburst.blog_application.service.support.ListingVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface PostService {
 
     PostResponse createPost(PostRequest request);
@@ -17,9 +25,29 @@ public interface PostService {
 
     Page<PostResponse> getAllPosts(Pageable pageable);
 
-    Page<PostResponse> searchPost(Pageable pageable, String keywords);
+    SliceResponse<PostSearchResponse> searchPost(Pageable pageable, String keywords);
+
+    Page<PostCardResponse> getPostByCategory(Pageable pageable, Long categoryId);
+
+    Page<PostCardResponse> getPostByUser(Pageable pageable, Long userId);
+
+    Optional<PostVersion> getPostVersion(String slug);
+
+    ListingVersion getPublishedVersion();
+
+    ListingVersion getCategoryListingVersion(Long categoryId);
+
+    ListingVersion getAuthorListingVersion(Long authorId);
+
+    ListingVersion getTagListingVersion(String tag);
+
+    List<PostCardResponse> getTrending(int limit);
+
+    CursorSliceResponse<PostCardResponse> getFeed(String cursor, int size);
+
+    CursorSliceResponse<PostCardResponse> getFeedByUser(Long userId, String cursor, int size);
 
-    Page<PostResponse> getPostByCategory(Pageable pageable, Long categoryId);
+    CursorSliceResponse<PostCardResponse> getFeedByCategory(Long categoryId, String cursor, int size);
 
-    Page<PostResponse> getPostByUser(Pageable pageable, Long userId);
+    CursorSliceResponse<PostCardResponse> getFeedByTag(String tag, String cursor, int size);
 }
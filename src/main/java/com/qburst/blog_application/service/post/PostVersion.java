@@ -0,0 +1,13 @@
+package com.qburst.blog_application.service.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * Identity and modification time of a post, enough to answer a conditional GET
+ * without loading the post itself.
+ * <p>
+ * {@code renderVersion} is part of it because {@code PostRenderJob} replaces the stored
+ * HTML without touching {@code updatedAt}, which stays the time of the last edit.
+ */
+public record PostVersion(Long id, LocalDateTime updatedAt, Integer renderVersion) {
+}
@@ -0,0 +1,160 @@
+package com.qburst.blog_application.service.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qburst.blog_application.service.post.trending.TrendingPostRanker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Post view counts aggregated in memory and written to {@code posts.view_count} in batches.
+ * <p>
+ * A view only increments a per-post {@link LongAdder}, so concurrent readers of a hot post
+ * never contend on its row. The scheduled flush drains every counter and applies the
+ * deltas with one batched {@code UPDATE ... SET view_count = view_count + ?}; deltas that
+ * fail to write are put back and retried on the next flush.
+ * <p>
+ * Requests whose user agent matches the bot pattern are not counted, and repeat views of
+ * the same post by the same viewer within the dedup window count once. The dedup window
+ * is held per instance. Counted views also feed the {@link TrendingPostRanker}.
+ */
+@Slf4j
+@Service
+public class PostViewCounter {
+
+    public enum ShutdownMode {
+        /** Write pending counts before the application stops. */
+        FLUSH,
+        /** Drop pending counts; at most one flush interval of views is lost. */
+        DISCARD
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingPostRanker trendingPostRanker;
+    private final ShutdownMode shutdownMode;
+    private final Pattern botPattern;
+    private final boolean countMissingUserAgent;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> recentViews;
+
+    private final Counter counted;
+    private final Counter botViews;
+    private final Counter repeatViews;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           TrendingPostRanker trendingPostRanker,
+                           MeterRegistry meterRegistry,
+                           @Value("${blog.views.on-shutdown:flush}") ShutdownMode shutdownMode,
+                           @Value("${blog.views.bot-user-agent-pattern:(?i)bot|crawl|spider|slurp|preview|headless}") String botPattern,
+                           @Value("${blog.views.count-missing-user-agent:false}") boolean countMissingUserAgent,
+                           @Value("${blog.views.dedup-window-seconds:1800}") long dedupWindowSeconds,
+                           @Value("${blog.views.dedup-max-entries:500000}") long dedupMaxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingPostRanker = trendingPostRanker;
+        this.shutdownMode = shutdownMode;
+        this.botPattern = botPattern.isBlank() ? null : Pattern.compile(botPattern);
+        this.countMissingUserAgent = countMissingUserAgent;
+        this.recentViews = dedupWindowSeconds > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(dedupMaxEntries)
+                        .expireAfterWrite(Duration.ofSeconds(dedupWindowSeconds))
+                        .build()
+                : null;
+
+        this.counted = meterRegistry.counter("posts.views", "outcome", "counted");
+        this.botViews = meterRegistry.counter("posts.views", "outcome", "bot");
+        this.repeatViews = meterRegistry.counter("posts.views", "outcome", "repeat");
+    }
+
+    /**
+     * Records one view of the post.
+     *
+     * @param viewerKey identifies the viewer for deduplication (user or client address), may be {@code null}
+     * @param userAgent the request's {@code User-Agent} header, may be {@code null}
+     */
+    public void recordView(Long postId, String viewerKey, String userAgent) {
+        if (isBot(userAgent)) {
+            botViews.increment();
+            return;
+        }
+
+        if (recentViews != null && viewerKey != null
+                && recentViews.asMap().putIfAbsent(postId + ":" + viewerKey, Boolean.TRUE) != null) {
+            repeatViews.increment();
+            return;
+        }
+
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        trendingPostRanker.recordView(postId);
+        counted.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                batch.add(new Object[]{views, postId});
+            } else {
+                // Idle since the last flush; a view racing with the removal may go uncounted
+                pending.remove(postId, adder);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE posts SET view_count = view_count + ? WHERE id = ?", batch);
+        } catch (RuntimeException ex) {
+            log.warn("Persisting view counts for {} posts failed, retrying on next flush: {}",
+                    batch.size(), ex.getMessage());
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (shutdownMode == ShutdownMode.FLUSH) {
+            flush();
+            return;
+        }
+
+        long dropped = pending.values().stream().mapToLong(LongAdder::sum).sum();
+        if (dropped > 0) {
+            log.info("Discarding {} unflushed post views on shutdown", dropped);
+        }
+    }
+
+    private boolean isBot(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return !countMissingUserAgent;
+        }
+        return botPattern != null && botPattern.matcher(userAgent).find();
+    }
+}
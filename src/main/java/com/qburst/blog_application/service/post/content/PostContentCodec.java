@@ -0,0 +1,120 @@
+package com.qburst.blog_application.service.post.content;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Deflate codec for post content, using the JDK's {@link Deflater} and {@link Inflater}.
+ * <p>
+ * The stored form is one format byte followed by the raw deflate stream of the UTF-8 text,
+ * so another codec can be introduced later without rewriting existing rows.
+ * <p>
+ * Encode and decode times are exported as {@code posts.content.compression{operation}},
+ * the original/compressed size ratio as {@code posts.content.compression.ratio} and the
+ * bytes not written as {@code posts.content.compression.saved}.
+ */
+@Component
+public class PostContentCodec {
+
+    private static final byte FORMAT_DEFLATE = 1;
+
+    private final int level;
+
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+    private final DistributionSummary ratio;
+    private final Counter savedBytes;
+
+    public PostContentCodec(MeterRegistry meterRegistry,
+                            @Value("${blog.content.compression.level:6}") int level) {
+        this.level = level;
+        this.encodeTimer = Timer.builder("posts.content.compression")
+                .description("Post content compression time")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder("posts.content.compression")
+                .description("Post content compression time")
+                .tag("operation", "decode")
+                .register(meterRegistry);
+        this.ratio = DistributionSummary.builder("posts.content.compression.ratio")
+                .description("Original size divided by compressed size")
+                .register(meterRegistry);
+        this.savedBytes = Counter.builder("posts.content.compression.saved")
+                .description("Bytes of post content not stored thanks to compression")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the encoded form, or {@code null} when it would not be smaller than {@code utf8}
+     */
+    public byte[] encode(byte[] utf8) {
+        byte[] encoded = encodeTimer.record(() -> deflate(utf8));
+        if (encoded.length >= utf8.length) {
+            return null;
+        }
+
+        ratio.record((double) utf8.length / encoded.length);
+        savedBytes.increment(utf8.length - encoded.length);
+        return encoded;
+    }
+
+    public String decode(byte[] encoded) {
+        return decodeTimer.record(() -> inflate(encoded));
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 3 + 16);
+            out.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] encoded) {
+        if (encoded.length == 0 || encoded[0] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("Unknown post content format");
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated post content");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt post content", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.qburst.blog_application.service.post.content;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.entity.CompressedText;
+import com.qburst.blog_application.entity.PostEntity;
+
+/**
+ * Decides how a post's content is stored.
+ * <p>
+ * With {@code blog.content.compression.enabled}, content of at least
+ * {@code blog.content.compression.min-bytes} UTF-8 bytes is deflated into
+ * {@code posts.content_deflated} and {@code posts.content} is left null; shorter content,
+ * or content that does not shrink, stays plain text. Either form is read back through
+ * {@link PostEntity#getContent()}, so switching the mode only affects posts written afterwards.
+ * <p>
+ * Postgres cannot read deflated content, so for those posts the content lexemes are stored
+ * in {@code posts.content_vector}, which the search document uses instead of the content
+ * (see {@code db/postgres/023-post-search-document.sql}).
+ */
+@Component
+public class PostContentStorage {
+
+    private static final String SET_CONTENT_VECTOR =
+            "UPDATE posts SET content_vector = to_tsvector('english'::regconfig, ?) WHERE id = ?";
+
+    private static final String CLEAR_CONTENT_VECTOR =
+            "UPDATE posts SET content_vector = NULL WHERE id = ? AND content_vector IS NOT NULL";
+
+    /**
+     * Content as it goes into the two columns: exactly one of them is set, unless the content is null.
+     */
+    public record Stored(String plain, byte[] compressed) {
+    }
+
+    private final PostContentCodec codec;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int minBytes;
+
+    public PostContentStorage(PostContentCodec codec,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${blog.content.compression.enabled:false}") boolean enabled,
+                              @Value("${blog.content.compression.min-bytes:4096}") int minBytes) {
+        this.codec = codec;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.minBytes = minBytes;
+    }
+
+    public Stored encode(String content) {
+        // Characters are at most 3 UTF-8 bytes each, so short content skips the byte conversion
+        if (!enabled || content == null || content.length() * 3L < minBytes) {
+            return new Stored(content, null);
+        }
+
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = utf8.length >= minBytes ? codec.encode(utf8) : null;
+        return compressed != null ? new Stored(null, compressed) : new Stored(content, null);
+    }
+
+    /**
+     * Sets the post's content in the form chosen by {@link #encode(String)}.
+     */
+    public void write(PostEntity post, String content) {
+        Stored stored = encode(content);
+        post.setContent(stored.plain());
+        post.setCompressedContent(stored.compressed() != null
+                ? new CompressedText(stored.compressed(), codec::decode)
+                : null);
+    }
+
+    /**
+     * Keeps {@code content_vector} in step with a post that has just been saved: filled for
+     * compressed content, cleared otherwise. Runs in the caller's transaction.
+     */
+    public void indexContent(PostEntity post, String content) {
+        if (post.getCompressedContent() != null) {
+            jdbcTemplate.update(SET_CONTENT_VECTOR, content, post.getId());
+        } else {
+            jdbcTemplate.update(CLEAR_CONTENT_VECTOR, post.getId());
+        }
+    }
+
+    public String decode(byte[] compressed) {
+        return codec.decode(compressed);
+    }
+}
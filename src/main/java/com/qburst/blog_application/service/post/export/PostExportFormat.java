@@ -0,0 +1,35 @@
+package com.qburst.blog_application.service.post.export;
+
+import java.util.Locale;
+
+import com.qburst.blog_application.exception.post.UnsupportedExportFormatException;
+
+public enum PostExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    PostExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static PostExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new UnsupportedExportFormatException("Unsupported export format '" + value + "', use ndjson or csv");
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.qburst.blog_application.service.post.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qburst.blog_application.dto.response.post.PostExportRow;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams every live post as NDJSON or CSV.
+ * <p>
+ * Posts are read in id order in chunks of at most {@code blog.export.chunk-size} posts and
+ * {@code blog.export.max-chunk-chars} characters of content. Each chunk is read into memory
+ * by one short read-only transaction over a forward-only cursor with
+ * {@code blog.export.fetch-size} rows per round trip, seeking past the last exported id
+ * instead of using an offset. The chunk is written only after its transaction has ended,
+ * so a slow client never holds a connection. Rows are read with plain JDBC, so no entities
+ * accumulate in a persistence context and heap use is independent of the number of posts.
+ */
+@Slf4j
+@Service
+public class PostExporter {
+
+    private static final String CHUNK_QUERY =
+            "SELECT p.id, p.slug, p.title, p.summary, p.content, p.content_deflated, p.image_url, p.is_published, " +
+                    "p.view_count, p.author_id, u.username, p.category_id, c.name AS category_name, p.created_at, p.updated_at, " +
+                    "ARRAY(SELECT t.name FROM post_tag_links l JOIN tags t ON t.id = l.tag_id " +
+                    "WHERE l.post_id = p.id ORDER BY t.name) AS tags " +
+                    "FROM posts p " +
+                    "JOIN users u ON u.id = p.author_id " +
+                    "LEFT JOIN categories c ON c.id = p.category_id " +
+                    "WHERE p.is_deleted = false AND p.id > ? " +
+                    "ORDER BY p.id " +
+                    "LIMIT ?";
+
+    private static final String CSV_HEADER =
+            "id,slug,title,summary,content,image_url,published,view_count,author_id,author," +
+                    "category_id,category,tags,created_at,updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final PostContentStorage postContentStorage;
+    private final int chunkSize;
+    private final long maxChunkChars;
+    private final Duration timeout;
+
+    private record Chunk(List<PostExportRow> rows, boolean last) {
+    }
+
+    public PostExporter(DataSource dataSource,
+                        PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper,
+                        PostContentStorage postContentStorage,
+                        @Value("${blog.export.chunk-size:1000}") int chunkSize,
+                        @Value("${blog.export.max-chunk-chars:16000000}") long maxChunkChars,
+                        @Value("${blog.export.fetch-size:500}") int fetchSize,
+                        @Value("${blog.export.timeout:1h}") Duration timeout) {
+        // Own template: the fetch size only applies to exports. Postgres honours it
+        // because every chunk runs inside a transaction (auto-commit off).
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.postContentStorage = postContentStorage;
+        this.chunkSize = chunkSize;
+        this.maxChunkChars = maxChunkChars;
+        this.timeout = timeout;
+    }
+
+    /**
+     * How long an export request may take; the export endpoint applies it to its own
+     * request only.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Writes all posts to {@code out}. The stream is flushed after every chunk but not closed.
+     *
+     * @return the number of posts written
+     */
+    public long export(PostExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == PostExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        long lastId = 0;
+        long total = 0;
+        while (true) {
+            Chunk chunk = readChunk(lastId);
+            for (PostExportRow row : chunk.rows()) {
+                if (format == PostExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+
+            total += chunk.rows().size();
+            if (chunk.last()) {
+                break;
+            }
+            lastId = chunk.rows().get(chunk.rows().size() - 1).id();
+        }
+
+        log.info("Exported {} posts as {}", total, format);
+        return total;
+    }
+
+    // Stops early once the chunk holds maxChunkChars of content; the rest of the cursor is discarded
+    private Chunk readChunk(long afterId) {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.query(CHUNK_QUERY, rs -> {
+            List<PostExportRow> rows = new ArrayList<>();
+            long chars = 0;
+            while (rows.size() < chunkSize && chars < maxChunkChars) {
+                if (!rs.next()) {
+                    return new Chunk(rows, true);
+                }
+                PostExportRow row = toRow(rs);
+                rows.add(row);
+                chars += row.content() != null ? row.content().length() : 0;
+            }
+            return new Chunk(rows, false);
+        }, afterId, chunkSize));
+    }
+
+    private PostExportRow toRow(ResultSet rs) throws SQLException {
+        long categoryId = rs.getLong("category_id");
+        Long category = rs.wasNull() ? null : categoryId;
+
+        byte[] compressed = rs.getBytes("content_deflated");
+        String content = compressed != null ? postContentStorage.decode(compressed) : rs.getString("content");
+
+        return new PostExportRow(
+                rs.getLong("id"),
+                rs.getString("slug"),
+                rs.getString("title"),
+                rs.getString("summary"),
+                content,
+                rs.getString("image_url"),
+                rs.getBoolean("is_published"),
+                rs.getLong("view_count"),
+                rs.getLong("author_id"),
+                rs.getString("username"),
+                category,
+                rs.getString("category_name"),
+                toList(rs.getArray("tags")),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at"))
+        );
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.asList((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static void writeCsv(Writer writer, PostExportRow row) throws IOException {
+        writer.write(Long.toString(row.id()));
+        writeCsvField(writer, row.slug());
+        writeCsvField(writer, row.title());
+        writeCsvField(writer, row.summary());
+        writeCsvField(writer, row.content());
+        writeCsvField(writer, row.imageUrl());
+        writeCsvField(writer, Boolean.toString(row.published()));
+        writeCsvField(writer, Long.toString(row.viewCount()));
+        writeCsvField(writer, Long.toString(row.authorId()));
+        writeCsvField(writer, row.author());
+        writeCsvField(writer, row.categoryId() != null ? row.categoryId().toString() : null);
+        writeCsvField(writer, row.category());
+        writeCsvField(writer, String.join("|", row.tags()));
+        writeCsvField(writer, row.createdAt() != null ? row.createdAt().toString() : null);
+        writeCsvField(writer, row.updatedAt() != null ? row.updatedAt().toString() : null);
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks, doubling inner quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,54 @@
+package com.qburst.blog_application.service.post.feed;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.qburst.blog_application.exception.post.InvalidCursorException;
+
+/**
+ * Position in a feed ordered by {@code (createdAt DESC, id DESC)}: the sort key of the
+ * last row a client has seen. The next page starts strictly after it.
+ * <p>
+ * Encoded as URL-safe Base64 of the raw values so clients treat it as opaque.
+ */
+public record FeedCursor(LocalDateTime createdAt, long id) {
+
+    private static final int VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put((byte) VERSION)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} for a missing cursor (first page)
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != LENGTH || buffer.get() != VERSION) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+
+            long seconds = buffer.getLong();
+            int nanos = buffer.getInt();
+            long id = buffer.getLong();
+            return new FeedCursor(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
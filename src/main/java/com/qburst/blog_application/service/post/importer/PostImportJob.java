@@ -0,0 +1,491 @@
+package com.qburst.blog_application.service.post.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qburst.blog_application.dto.request.post.PostImportRecord;
+import com.qburst.blog_application.dto.response.post.PostImportChunkReport;
+import com.qburst.blog_application.dto.response.post.PostImportSummary;
+import com.qburst.blog_application.entity.TagEntity;
+import com.qburst.blog_application.repository.CategoryRepository;
+import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.service.post.PostCountRegistry;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+import com.qburst.blog_application.service.post.render.MarkdownRenderer;
+import com.qburst.blog_application.service.post.slug.SlugAllocator;
+import com.qburst.blog_application.service.tag.TagNormalizer;
+import com.qburst.blog_application.service.tag.TagService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Imports posts from NDJSON, one {@link PostImportRecord} per line.
+ * <p>
+ * Input is read and written in chunks of {@code blog.import.chunk-size} lines, cut short
+ * once the chunk's posts reach {@code blog.import.max-chunk-chars} characters, so memory
+ * use does not depend on the size of the import or of its posts. Authors and categories are resolved
+ * from maps loaded once per run, slugs for a chunk are allocated with one query, and
+ * each chunk is written in its own transaction with batched inserts into {@code posts}
+ * and {@code post_tag_links}, interning the chunk's tags and adjusting their post counts
+ * in the same transaction. Invalid lines, including values the {@code posts} columns would
+ * reject, are reported and skipped. If a chunk still fails to write, its posts are retried
+ * one per transaction, so only the offending lines are reported as failed.
+ */
+@Slf4j
+@Service
+public class PostImportJob {
+
+    private static final String INSERT_POST =
+            "INSERT INTO posts (title, slug, content, content_deflated, content_vector, content_html, render_version, " +
+                    "summary, image_url, is_published, view_count, author_id, category_id, created_at, updated_at, is_deleted) " +
+                    "VALUES (?, ?, ?, ?, to_tsvector('english'::regconfig, ?), ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, false)";
+
+    private static final String INSERT_TAG_LINK = "INSERT INTO post_tag_links (post_id, tag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final SlugAllocator slugAllocator;
+    private final PostCountRegistry postCountRegistry;
+    private final TagService tagService;
+    private final PostContentStorage postContentStorage;
+    private final MarkdownRenderer markdownRenderer;
+
+    private final int chunkSize;
+    private final long maxChunkChars;
+    private final int maxErrorsPerChunk;
+    private final int maxLineChars;
+
+    public PostImportJob(JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         ObjectMapper objectMapper,
+                         Validator validator,
+                         UserRepository userRepository,
+                         CategoryRepository categoryRepository,
+                         SlugAllocator slugAllocator,
+                         PostCountRegistry postCountRegistry,
+                         TagService tagService,
+                         PostContentStorage postContentStorage,
+                         MarkdownRenderer markdownRenderer,
+                         @Value("${blog.import.chunk-size:1000}") int chunkSize,
+                         @Value("${blog.import.max-chunk-chars:16000000}") long maxChunkChars,
+                         @Value("${blog.import.max-errors-per-chunk:20}") int maxErrorsPerChunk,
+                         @Value("${blog.import.max-line-chars:1000000}") int maxLineChars) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.slugAllocator = slugAllocator;
+        this.postCountRegistry = postCountRegistry;
+        this.tagService = tagService;
+        this.postContentStorage = postContentStorage;
+        this.markdownRenderer = markdownRenderer;
+        this.chunkSize = chunkSize;
+        this.maxChunkChars = maxChunkChars;
+        this.maxErrorsPerChunk = maxErrorsPerChunk;
+        this.maxLineChars = maxLineChars;
+    }
+
+    /**
+     * Runs the import, passing a report to {@code progress} after every chunk.
+     * Reading stops at the first I/O error; chunks written before it stay imported.
+     */
+    public PostImportSummary run(Reader input, Consumer<PostImportChunkReport> progress) {
+        Lookups lookups = loadLookups();
+        BoundedLineReader lines = new BoundedLineReader(input, maxLineChars);
+
+        long lineNumber = 0;
+        long imported = 0;
+        long failed = 0;
+        int chunks = 0;
+        boolean completed = true;
+
+        Chunk chunk = new Chunk(1, 1);
+        try {
+            String line;
+            while ((line = lines.next()) != null) {
+                lineNumber++;
+
+                if (lines.overflowed()) {
+                    chunk.fail(lineNumber, "Line exceeds " + maxLineChars + " characters");
+                } else if (!line.isBlank()) {
+                    parse(line, lineNumber, lookups, chunk);
+                }
+
+                if (lineNumber - chunk.firstLine + 1 >= chunkSize || chunk.chars >= maxChunkChars) {
+                    PostImportChunkReport report = write(chunk, lineNumber);
+                    progress.accept(report);
+                    imported += report.imported();
+                    failed += report.failed();
+                    chunks++;
+                    chunk = new Chunk(chunk.number + 1, lineNumber + 1);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Post import stopped after line {}: {}", lineNumber, ex.getMessage());
+            completed = false;
+        }
+
+        if (lineNumber >= chunk.firstLine) {
+            PostImportChunkReport report = write(chunk, lineNumber);
+            progress.accept(report);
+            imported += report.imported();
+            failed += report.failed();
+            chunks++;
+        }
+
+        if (imported > 0) {
+            // One grouped recount instead of a per-post update of the cached totals
+            postCountRegistry.reconcile();
+        }
+
+        log.info("Post import finished: {} lines, {} imported, {} failed", lineNumber, imported, failed);
+        return new PostImportSummary(lineNumber, imported, failed, chunks, completed);
+    }
+
+    private void parse(String line, long lineNumber, Lookups lookups, Chunk chunk) {
+        PostImportRecord record;
+        try {
+            record = objectMapper.readValue(line, PostImportRecord.class);
+        } catch (JacksonException ex) {
+            chunk.fail(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            return;
+        }
+
+        Set<ConstraintViolation<PostImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            chunk.fail(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+
+        // Postgres rejects NUL in text columns
+        if (hasNul(record.title()) || hasNul(record.content()) || hasNul(record.summary())
+                || hasNul(record.imageUrl()) || record.tags().stream().anyMatch(PostImportJob::hasNul)) {
+            chunk.fail(lineNumber, "Text must not contain NUL characters");
+            return;
+        }
+
+        Long authorId = lookups.author(record);
+        if (authorId == null) {
+            chunk.fail(lineNumber, "Unknown author");
+            return;
+        }
+
+        Long categoryId = lookups.category(record);
+        if (categoryId == null) {
+            chunk.fail(lineNumber, "Unknown category");
+            return;
+        }
+
+        chunk.rows.add(new Row(lineNumber, record, authorId, categoryId));
+        chunk.chars += line.length();
+    }
+
+    private static boolean hasNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private PostImportChunkReport write(Chunk chunk, long lastLine) {
+        int imported = 0;
+        if (!chunk.rows.isEmpty()) {
+            try {
+                insert(chunk.rows);
+                imported = chunk.rows.size();
+            } catch (RuntimeException ex) {
+                log.warn("Writing import chunk {} failed, retrying its posts one by one: {}", chunk.number, ex.getMessage());
+                imported = insertEach(chunk);
+            }
+        }
+
+        chunk.errors.sort(Comparator.comparingLong(PostImportChunkReport.LineError::line));
+        return new PostImportChunkReport(chunk.number, chunk.firstLine, lastLine,
+                imported, chunk.failed, List.copyOf(chunk.errors));
+    }
+
+    // Isolates the rows that made the batch fail; the rest of the chunk is still imported
+    private int insertEach(Chunk chunk) {
+        int imported = 0;
+        for (Row row : chunk.rows) {
+            try {
+                insert(List.of(row));
+                imported++;
+            } catch (RuntimeException ex) {
+                chunk.fail(row.line(), "Post could not be written: " + rootMessage(ex));
+            }
+        }
+        return imported;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private void insert(List<Row> rows) {
+        List<String> slugs = slugAllocator.allocateAll(rows.stream().map(row -> row.record().title()).toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // Compress and render before the transaction, so it only spans the inserts
+        List<PostContentStorage.Stored> contents = rows.stream()
+                .map(row -> postContentStorage.encode(row.record().content()))
+                .toList();
+        List<String> html = rows.stream()
+                .map(row -> markdownRenderer.render(row.record().content()))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_POST, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Row row = rows.get(i);
+                            PostImportRecord record = row.record();
+                            Timestamp createdAt = record.createdAt() != null ? Timestamp.valueOf(record.createdAt()) : now;
+
+                            PostContentStorage.Stored content = contents.get(i);
+
+                            ps.setString(1, record.title());
+                            ps.setString(2, slugs.get(i));
+                            ps.setString(3, content.plain());
+                            ps.setBytes(4, content.compressed());
+                            // Lexemes only for compressed content; to_tsvector(NULL) leaves the column null
+                            ps.setString(5, content.compressed() != null ? record.content() : null);
+                            ps.setString(6, html.get(i));
+                            ps.setInt(7, MarkdownRenderer.VERSION);
+                            ps.setString(8, record.summary());
+                            ps.setString(9, record.imageUrl());
+                            ps.setBoolean(10, record.published());
+                            ps.setLong(11, row.authorId());
+                            ps.setLong(12, row.categoryId());
+                            ps.setTimestamp(13, createdAt);
+                            ps.setTimestamp(14, createdAt);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    },
+                    keys);
+
+            List<Map<String, Object>> ids = keys.getKeyList();
+            Map<String, Long> tagIds = internTags(rows);
+            List<Object[]> links = new ArrayList<>();
+            Map<Long, Long> publishedCounts = new HashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                Object postId = ids.get(i).get("id");
+                PostImportRecord record = rows.get(i).record();
+
+                // Tags differing only in case or spacing collapse into one link
+                Set<Long> postTagIds = new HashSet<>();
+                for (String tag : record.tags()) {
+                    String name = TagNormalizer.normalize(tag);
+                    if (name != null) {
+                        postTagIds.add(tagIds.get(name));
+                    }
+                }
+
+                for (Long tagId : postTagIds) {
+                    links.add(new Object[]{postId, tagId});
+                    if (record.published()) {
+                        publishedCounts.merge(tagId, 1L, Long::sum);
+                    }
+                }
+            }
+            if (!links.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TAG_LINK, links);
+                tagService.adjustPostCounts(publishedCounts);
+            }
+        });
+    }
+
+    private Map<String, Long> internTags(List<Row> rows) {
+        Set<String> names = new HashSet<>();
+        rows.forEach(row -> names.addAll(row.record().tags()));
+
+        Map<String, Long> ids = new HashMap<>();
+        for (TagEntity tag : tagService.intern(names)) {
+            ids.put(tag.getName(), tag.getId());
+        }
+        return ids;
+    }
+
+    private Lookups loadLookups() {
+        Set<Long> userIds = new HashSet<>();
+        Map<String, Long> usersByName = new HashMap<>();
+        for (Object[] row : userRepository.findAllIdentities()) {
+            Long id = (Long) row[0];
+            userIds.add(id);
+            usersByName.put(((String) row[1]).toLowerCase(Locale.ROOT), id);
+            usersByName.put(((String) row[2]).toLowerCase(Locale.ROOT), id);
+        }
+
+        Set<Long> categoryIds = new HashSet<>();
+        Map<String, Long> categoriesByName = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllNames()) {
+            Long id = (Long) row[0];
+            categoryIds.add(id);
+            categoriesByName.put(((String) row[1]).toLowerCase(Locale.ROOT), id);
+        }
+
+        return new Lookups(userIds, usersByName, categoryIds, categoriesByName);
+    }
+
+    private record Row(long line, PostImportRecord record, Long authorId, Long categoryId) {
+    }
+
+    /**
+     * Active users (by id, and by lower-cased username or email) and categories
+     * (by id and lower-cased name), loaded once per import.
+     */
+    private record Lookups(Set<Long> userIds, Map<String, Long> usersByName,
+                           Set<Long> categoryIds, Map<String, Long> categoriesByName) {
+
+        Long author(PostImportRecord record) {
+            if (record.authorId() != null) {
+                return userIds.contains(record.authorId()) ? record.authorId() : null;
+            }
+            return record.author() != null ? usersByName.get(record.author().toLowerCase(Locale.ROOT)) : null;
+        }
+
+        Long category(PostImportRecord record) {
+            if (record.categoryId() != null) {
+                return categoryIds.contains(record.categoryId()) ? record.categoryId() : null;
+            }
+            return record.category() != null ? categoriesByName.get(record.category().toLowerCase(Locale.ROOT)) : null;
+        }
+    }
+
+    private final class Chunk {
+
+        private final int number;
+        private final long firstLine;
+        private final List<Row> rows = new ArrayList<>();
+        private final List<PostImportChunkReport.LineError> errors = new ArrayList<>();
+        private int failed;
+        private long chars;
+
+        private Chunk(int number, long firstLine) {
+            this.number = number;
+            this.firstLine = firstLine;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrorsPerChunk) {
+                errors.add(new PostImportChunkReport.LineError(line, message));
+            }
+        }
+    }
+
+    /**
+     * Splits the input on {@code \n} without ever holding more than {@code maxChars} of a
+     * line; longer lines are consumed and returned empty with {@link #overflowed()} set.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader reader;
+        private final int maxChars;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean overflow;
+
+        private BoundedLineReader(Reader reader, int maxChars) {
+            this.reader = reader;
+            this.maxChars = maxChars;
+        }
+
+        String next() throws IOException {
+            line.setLength(0);
+            overflow = false;
+            boolean read = false;
+
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read ? finish() : null;
+                    }
+                }
+                read = true;
+
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                append(start, position - start);
+
+                if (position < limit) {
+                    position++; // the newline
+                    return finish();
+                }
+            }
+        }
+
+        boolean overflowed() {
+            return overflow;
+        }
+
+        private void append(int start, int length) {
+            if (overflow) {
+                return;
+            }
+            if (line.length() + length > maxChars) {
+                overflow = true;
+                line.setLength(0);
+                return;
+            }
+            line.append(buffer, start, length);
+        }
+
+        private String finish() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            return line.toString();
+        }
+    }
+}
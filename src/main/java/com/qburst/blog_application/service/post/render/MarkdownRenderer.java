@@ -0,0 +1,52 @@
+package com.qburst.blog_application.service.post.render;
+
+import java.util.regex.Pattern;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.owasp.html.Sanitizers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders post Markdown (CommonMark) to HTML that is safe to embed in a page.
+ * <p>
+ * Inline HTML in the source is passed through by the renderer and then sanitized together
+ * with the output: only formatting, block, link, image and table markup survives, and
+ * scripts, event handlers and {@code javascript:} URLs are dropped.
+ * <p>
+ * Stored HTML is stamped with {@link #VERSION}. Bump it whenever the parser, its options
+ * or the policy change, and {@code PostRenderJob} re-renders every post in the background.
+ * Parser, renderer and policy are immutable and shared across threads.
+ */
+@Component
+public class MarkdownRenderer {
+
+    public static final int VERSION = 2;
+
+    private static final PolicyFactory POLICY = Sanitizers.FORMATTING
+            .and(Sanitizers.BLOCKS)
+            .and(Sanitizers.LINKS)
+            .and(Sanitizers.IMAGES)
+            .and(Sanitizers.TABLES)
+            .and(new HtmlPolicyBuilder()
+                    .allowElements("pre", "hr", "code")
+                    .allowAttributes("class").matching(Pattern.compile("language-[\\w-]{1,40}")).onElements("code")
+                    .toFactory());
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .sanitizeUrls(true)
+            .build();
+
+    /**
+     * @return sanitized HTML, or {@code null} for {@code null} input
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        return POLICY.sanitize(renderer.render(parser.parse(markdown)));
+    }
+}
@@ -0,0 +1,157 @@
+package com.qburst.blog_application.service.post.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostDetailCache;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-renders the stored HTML of posts whose {@code render_version} is older than
+ * {@link MarkdownRenderer#VERSION}, or missing.
+ * <p>
+ * Runs on the {@code postRenderExecutor} thread at startup and every
+ * {@code blog.render.interval-ms}. Posts are read in id order, {@code blog.render.chunk-size}
+ * at a time, seeking past the last id; each chunk is rendered with no transaction open and
+ * written back with one batched update by primary key, so concurrent edits only ever wait
+ * for a single short statement. The update skips rows that an edit has rendered in the
+ * meantime.
+ * <p>
+ * {@code updated_at} is left alone, since it is the time of the last edit. The new
+ * {@code render_version} is part of the post's {@code PostVersion}, so ETags and the
+ * cached responses keyed by version still change with the HTML.
+ */
+@Slf4j
+@Service
+public class PostRenderJob {
+
+    private static final String SELECT_STALE =
+            "SELECT id, slug, content, content_deflated FROM posts " +
+                    "WHERE id > ? AND is_deleted = false AND (render_version IS NULL OR render_version < ?) " +
+                    "ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_HTML =
+            "UPDATE posts SET content_html = ?, render_version = ? " +
+                    "WHERE id = ? AND (render_version IS NULL OR render_version < ?)";
+
+    private record StalePost(long id, String slug, String content, byte[] compressed) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostContentStorage postContentStorage;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailBytesCache postDetailBytesCache;
+    private final Executor executor;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    public PostRenderJob(JdbcTemplate jdbcTemplate,
+                         MarkdownRenderer markdownRenderer,
+                         PostContentStorage postContentStorage,
+                         PostDetailCache postDetailCache,
+                         PostDetailBytesCache postDetailBytesCache,
+                         @Qualifier("postRenderExecutor") Executor executor,
+                         @Value("${blog.render.chunk-size:500}") int chunkSize,
+                         @Value("${blog.render.chunk-pause-ms:50}") long chunkPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.markdownRenderer = markdownRenderer;
+        this.postContentStorage = postContentStorage;
+        this.postDetailCache = postDetailCache;
+        this.postDetailBytesCache = postDetailBytesCache;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blog.render.interval-ms:21600000}",
+            initialDelayString = "${blog.render.interval-ms:21600000}")
+    public void trigger() {
+        executor.execute(this::renderStale);
+    }
+
+    /**
+     * Brings every live post up to the current renderer version.
+     *
+     * @return the number of posts re-rendered
+     */
+    public long renderStale() {
+        long lastId = 0;
+        long rendered = 0;
+
+        try {
+            while (true) {
+                List<StalePost> chunk = jdbcTemplate.query(SELECT_STALE,
+                        (rs, rowNum) -> new StalePost(rs.getLong("id"), rs.getString("slug"),
+                                rs.getString("content"), rs.getBytes("content_deflated")),
+                        lastId, MarkdownRenderer.VERSION, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                rendered += renderChunk(chunk);
+                lastId = chunk.get(chunk.size() - 1).id();
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+
+                // Leave room for foreground queries on a large backlog
+                Thread.sleep(chunkPauseMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Re-rendering posts stopped after id {}, resuming on the next run: {}", lastId, ex.getMessage());
+        }
+
+        if (rendered > 0) {
+            log.info("Re-rendered {} posts with renderer version {}", rendered, MarkdownRenderer.VERSION);
+        }
+        return rendered;
+    }
+
+    private int renderChunk(List<StalePost> chunk) {
+        List<StalePost> posts = new ArrayList<>(chunk.size());
+        List<Object[]> updates = new ArrayList<>(chunk.size());
+
+        for (StalePost post : chunk) {
+            try {
+                String content = post.compressed() != null ? postContentStorage.decode(post.compressed()) : post.content();
+                updates.add(new Object[]{markdownRenderer.render(content), MarkdownRenderer.VERSION,
+                        post.id(), MarkdownRenderer.VERSION});
+                posts.add(post);
+            } catch (RuntimeException ex) {
+                // Left stale and retried on the next run
+                log.warn("Rendering post {} failed: {}", post.id(), ex.getMessage());
+            }
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_HTML, updates);
+
+        int updated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                postDetailCache.invalidateAfterCommit(posts.get(i).slug());
+                postDetailBytesCache.invalidateAfterCommit(posts.get(i).slug());
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,107 @@
+package com.qburst.blog_application.service.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text typed by users into a Postgres {@code tsquery} expression.
+ * <p>
+ * Supported syntax, all combined with AND:
+ * <ul>
+ *     <li>{@code "exact phrase"} - words must appear next to each other ({@code <->})</li>
+ *     <li>{@code spring*} - prefix match ({@code :*})</li>
+ *     <li>{@code -draft} - excludes posts containing the word</li>
+ *     <li>{@code OR} between two terms - either may match</li>
+ * </ul>
+ * Anything else that is not a letter or digit is dropped, so the result is always a
+ * valid query and user input never reaches the tsquery syntax unescaped.
+ */
+public final class SearchQueryParser {
+
+    private static final Pattern TOKEN = Pattern.compile("(-?)\"([^\"]*)\"?|(\\S+)");
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 16;
+
+    private SearchQueryParser() {
+    }
+
+    /**
+     * @return the tsquery text, or {@code null} when the input has nothing searchable
+     */
+    public static String toTsQuery(String input) {
+        if (input == null || input.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        boolean pendingOr = false;
+
+        Matcher matcher = TOKEN.matcher(input);
+        while (matcher.find() && terms.size() < MAX_TERMS) {
+            String term;
+
+            if (matcher.group(3) == null) {
+                term = negate(matcher.group(1).isEmpty(), phrase(matcher.group(2), false));
+            } else {
+                String token = matcher.group(3);
+                if (token.equals("OR")) {
+                    pendingOr = !terms.isEmpty();
+                    continue;
+                }
+
+                boolean excluded = token.startsWith("-");
+                boolean prefix = token.endsWith("*");
+                term = negate(!excluded, phrase(token, prefix));
+            }
+
+            if (term == null) {
+                continue;
+            }
+
+            if (pendingOr) {
+                // Bind OR to the previous term only
+                int last = terms.size() - 1;
+                terms.set(last, "(" + terms.get(last) + " | " + term + ")");
+                pendingOr = false;
+            } else {
+                terms.add(term);
+            }
+        }
+
+        // A query of exclusions only would match almost everything
+        if (terms.isEmpty() || terms.stream().allMatch(term -> term.startsWith("!"))) {
+            return null;
+        }
+        return String.join(" & ", terms);
+    }
+
+    // Words of one token or quoted phrase, joined as adjacent; prefix applies to the last word
+    private static String phrase(String text, boolean prefix) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            words.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        if (prefix) {
+            int last = words.size() - 1;
+            words.set(last, words.get(last) + ":*");
+        }
+
+        return words.size() == 1 ? words.get(0) : "(" + String.join(" <-> ", words) + ")";
+    }
+
+    private static String negate(boolean keep, String term) {
+        if (term == null) {
+            return null;
+        }
+        return keep ? term : "!" + term;
+    }
+}
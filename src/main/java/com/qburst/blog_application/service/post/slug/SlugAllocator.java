@@ -0,0 +1,94 @@
+package com.qburst.blog_application.service.post.slug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Allocates post slugs that are unique by construction, so creating a post needs no
+ * "is this slug taken" probe.
+ * <p>
+ * A slug is the normalized title, a dash and the base-62 form of an id that is never
+ * handed out twice. Ids come from the {@code post_slug_seq} sequence with a hi/lo scheme:
+ * each {@code nextval} reserves a block of {@link #BLOCK_SIZE} ids for this instance, so
+ * only one post in a block costs a round trip. The block size must never change, or
+ * blocks reserved before and after the change would overlap.
+ * <p>
+ * Ids start at 62^5, so every suffix is six characters long and cannot equal the
+ * five-character random suffixes of slugs created before the allocator existed.
+ */
+@Component
+public class SlugAllocator {
+
+    static final int BLOCK_SIZE = 100;
+
+    private static final long ID_OFFSET = 916_132_832L; // 62^5
+
+    private static final char[] BASE62 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public SlugAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String allocate(String title) {
+        return toSlug(title, nextId());
+    }
+
+    /**
+     * Slugs for many titles, in order, reserving all the blocks they need in one query.
+     */
+    public List<String> allocateAll(List<String> titles) {
+        if (titles.isEmpty()) {
+            return List.of();
+        }
+
+        int blocks = (titles.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        List<Long> his = jdbcTemplate.queryForList(
+                "SELECT nextval('post_slug_seq') FROM generate_series(1, ?)", Long.class, blocks);
+
+        List<String> slugs = new ArrayList<>(titles.size());
+        for (int i = 0; i < titles.size(); i++) {
+            long id = ID_OFFSET + his.get(i / BLOCK_SIZE) * BLOCK_SIZE + i % BLOCK_SIZE;
+            slugs.add(toSlug(titles.get(i), id));
+        }
+        return slugs;
+    }
+
+    public static String toSlug(String title, long id) {
+        return SlugNormalizer.normalize(title) + "-" + base62(id);
+    }
+
+    private long nextId() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                Long hi = jdbcTemplate.queryForObject("SELECT nextval('post_slug_seq')", Long.class);
+                next = ID_OFFSET + hi * BLOCK_SIZE;
+                limit = next + BLOCK_SIZE;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static String base62(long value) {
+        char[] buffer = new char[11];
+        int position = buffer.length;
+        do {
+            buffer[--position] = BASE62[(int) (value % 62)];
+            value /= 62;
+        } while (value > 0);
+        return new String(buffer, position, buffer.length - position);
+    }
+}
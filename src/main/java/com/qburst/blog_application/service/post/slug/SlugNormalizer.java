@@ -0,0 +1,55 @@
+package com.qburst.blog_application.service.post.slug;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a post title into the readable part of its slug.
+ * <p>
+ * The title is decomposed (NFKD) so accents become separate marks, which are dropped;
+ * letters and digits of any script are kept, lower-cased, and every other run of
+ * characters becomes a single dash. Patterns are compiled once.
+ */
+public final class SlugNormalizer {
+
+    static final int MAX_LENGTH = 80;
+
+    private static final String FALLBACK = "post";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private SlugNormalizer() {
+    }
+
+    public static String normalize(String title) {
+        if (title == null) {
+            return FALLBACK;
+        }
+
+        String decomposed = Normalizer.normalize(title, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String dashed = NON_WORD.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll("-");
+
+        String slug = trimDashes(dashed);
+        if (slug.length() > MAX_LENGTH) {
+            // Prefer cutting at a word boundary
+            int cut = slug.lastIndexOf('-', MAX_LENGTH);
+            slug = trimDashes(slug.substring(0, cut > MAX_LENGTH / 2 ? cut : MAX_LENGTH));
+        }
+        return slug.isEmpty() ? FALLBACK : slug;
+    }
+
+    private static String trimDashes(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) == '-') {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+}
@@ -0,0 +1,281 @@
+package com.qburst.blog_application.service.post.trending;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.Document.TrendingSnapshot;
+import com.qburst.blog_application.dto.response.post.PostCardResponse;
+import com.qburst.blog_application.repository.PostRepository;
+import com.qburst.blog_application.repository.TrendingSnapshotRepository;
+import com.qburst.blog_application.service.post.PostCardAssembler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ranks published posts by an exponentially decayed engagement score, kept entirely in memory.
+ * <p>
+ * Scores use forward decay: an event at time {@code t} adds {@code weight * e^(λ(t - landmark))},
+ * so existing scores never have to be decayed and their order is always the order of the
+ * decayed scores. When the growth factor gets large the landmark is moved forward and every
+ * score is rescaled once.
+ * <p>
+ * A periodic refresh selects the top posts, loads their cards and publishes them as an
+ * immutable list, which is all that {@link #top(int)} reads. The same pass drops scores that
+ * have decayed to nothing and caps the number of tracked posts. Scores are snapshotted to
+ * Mongo and restored at startup; without a snapshot the ranking is seeded from
+ * {@code view_count} and {@code created_at} of recent posts. Each instance ranks the views it
+ * serves, and the shared snapshot is last-writer-wins.
+ */
+@Slf4j
+@Service
+public class TrendingPostRanker {
+
+    private static final String SNAPSHOT_ID = "posts";
+
+    // Rescale long before the growth factor approaches double overflow (e^709)
+    private static final double MAX_EXPONENT = 64;
+
+    private final PostRepository postRepository;
+    private final PostCardAssembler postCardAssembler;
+    private final TrendingSnapshotRepository snapshotRepository;
+
+    private final double decayPerMilli;
+    private final int topK;
+    private final int maxTracked;
+    private final double minScore;
+    private final Duration seedWindow;
+
+    // Events add under the read lock; rescaling takes the write lock
+    private final ReadWriteLock rescaleLock = new ReentrantReadWriteLock();
+    private final Map<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    private volatile long landmarkMillis = System.currentTimeMillis();
+
+    private volatile List<PostCardResponse> ranking = List.of();
+
+    public TrendingPostRanker(PostRepository postRepository,
+                              PostCardAssembler postCardAssembler,
+                              TrendingSnapshotRepository snapshotRepository,
+                              @Value("${blog.trending.half-life-minutes:360}") long halfLifeMinutes,
+                              @Value("${blog.trending.top-k:100}") int topK,
+                              @Value("${blog.trending.max-tracked:10000}") int maxTracked,
+                              @Value("${blog.trending.min-score:0.01}") double minScore,
+                              @Value("${blog.trending.seed-window-hours:168}") long seedWindowHours) {
+        this.postRepository = postRepository;
+        this.postCardAssembler = postCardAssembler;
+        this.snapshotRepository = snapshotRepository;
+        this.decayPerMilli = Math.log(2) / Duration.ofMinutes(halfLifeMinutes).toMillis();
+        this.topK = topK;
+        this.maxTracked = Math.max(maxTracked, topK);
+        this.minScore = minScore;
+        this.seedWindow = Duration.ofHours(seedWindowHours);
+    }
+
+    public void recordView(Long postId) {
+        record(postId, 1.0, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds an engagement event of the given weight (a view counts 1) to the post's score.
+     */
+    public void record(Long postId, double weight) {
+        record(postId, weight, System.currentTimeMillis());
+    }
+
+    /**
+     * The current top posts, highest score first. Served from the last refresh.
+     */
+    public List<PostCardResponse> top(int limit) {
+        List<PostCardResponse> current = ranking;
+        return current.subList(0, Math.clamp(limit, 0, current.size()));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!restoreSnapshot()) {
+            seedFromPosts();
+        }
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.refresh-interval-ms:10000}",
+            initialDelayString = "${blog.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        if (decayPerMilli * (now - landmarkMillis) > MAX_EXPONENT) {
+            rescale(now);
+        }
+
+        List<Map.Entry<Long, Double>> leaders = prune(now);
+        List<Long> ids = leaders.stream()
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (ids.isEmpty()) {
+            ranking = List.of();
+            return;
+        }
+
+        try {
+            Map<Long, PostCardResponse> cards = postCardAssembler
+                    .withTags(postRepository.findPublishedCardsByIds(ids)).stream()
+                    .collect(Collectors.toMap(PostCardResponse::id, Function.identity()));
+
+            List<PostCardResponse> ranked = new ArrayList<>(cards.size());
+            for (Long id : ids) {
+                PostCardResponse card = cards.get(id);
+                if (card != null) {
+                    ranked.add(card);
+                } else {
+                    // Unpublished or deleted since it was scored
+                    scores.remove(id);
+                }
+            }
+            ranking = List.copyOf(ranked);
+        } catch (RuntimeException ex) {
+            log.warn("Refreshing trending posts failed, keeping the previous ranking: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${blog.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${blog.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        double decay = 1 / growth(now);
+
+        List<TrendingSnapshot.Entry> entries = new ArrayList<>();
+        scores.forEach((postId, score) -> {
+            double current = score.sum() * decay;
+            if (current >= minScore) {
+                entries.add(new TrendingSnapshot.Entry(postId, current));
+            }
+        });
+
+        try {
+            snapshotRepository.save(new TrendingSnapshot(SNAPSHOT_ID, Instant.ofEpochMilli(now), entries));
+        } catch (RuntimeException ex) {
+            log.warn("Saving trending snapshot of {} posts failed: {}", entries.size(), ex.getMessage());
+        }
+    }
+
+    private void record(Long postId, double weight, long atMillis) {
+        Lock lock = rescaleLock.readLock();
+        lock.lock();
+        try {
+            scores.computeIfAbsent(postId, id -> new DoubleAdder()).add(weight * growth(atMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double growth(long atMillis) {
+        return Math.exp(decayPerMilli * (atMillis - landmarkMillis));
+    }
+
+    private void rescale(long now) {
+        Lock lock = rescaleLock.writeLock();
+        lock.lock();
+        try {
+            double factor = 1 / growth(now);
+            for (DoubleAdder score : scores.values()) {
+                double value = score.sumThenReset();
+                score.add(value * factor);
+            }
+            landmarkMillis = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops decayed scores, keeps at most {@code maxTracked} posts and returns the
+     * survivors ordered by score, highest first.
+     */
+    private List<Map.Entry<Long, Double>> prune(long now) {
+        double threshold = minScore * growth(now);
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.<Long, Double>comparingByValue());
+
+        // A score removed here while an event is being added to it loses that event;
+        // only posts at the very bottom of the ranking are affected
+        scores.forEach((postId, score) -> {
+            double value = score.sum();
+            if (value < threshold) {
+                scores.remove(postId, score);
+                return;
+            }
+
+            heap.add(Map.entry(postId, value));
+            if (heap.size() > maxTracked) {
+                Map.Entry<Long, Double> evicted = heap.poll();
+                scores.remove(evicted.getKey());
+            }
+        });
+
+        List<Map.Entry<Long, Double>> leaders = new ArrayList<>(heap);
+        leaders.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+        return leaders;
+    }
+
+    private boolean restoreSnapshot() {
+        try {
+            return snapshotRepository.findById(SNAPSHOT_ID)
+                    .map(snapshot -> {
+                        long takenAt = snapshot.getTakenAt().toEpochMilli();
+                        snapshot.getEntries().forEach(entry -> record(entry.getPostId(), entry.getScore(), takenAt));
+                        log.info("Trending scores restored for {} posts from snapshot taken at {}",
+                                snapshot.getEntries().size(), snapshot.getTakenAt());
+                        return true;
+                    })
+                    .orElse(false);
+        } catch (RuntimeException ex) {
+            log.warn("Loading trending snapshot failed, seeding from posts: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    // Without history, a post's stored views are treated as if they all happened at publication
+    private void seedFromPosts() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(seedWindow);
+            List<Object[]> rows = postRepository.findTrendingSeed(since, PageRequest.of(0, maxTracked));
+
+            for (Object[] row : rows) {
+                long views = (Long) row[1];
+                if (views > 0) {
+                    long createdAt = ((LocalDateTime) row[2]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    record((Long) row[0], views, createdAt);
+                }
+            }
+            log.info("Trending scores seeded from {} recent posts", rows.size());
+        } catch (RuntimeException ex) {
+            log.warn("Seeding trending scores failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.qburst.blog_application.service.revocation.Impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.service.revocation.RevocationStore;
+
+/**
+ * Single-node store for local runs and benchmarks. Revocations are lost on restart.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.revocation.store", havingValue = "memory")
+public class InMemoryRevocationStore implements RevocationStore {
+
+    private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+    private final Map<Long, Watermark> watermarks = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenKey, Instant expiry) {
+        revocations.put(tokenKey, new Revocation(expiry, Instant.now()));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenKey) {
+        Revocation revocation = revocations.get(tokenKey);
+        if (revocation == null) {
+            return false;
+        }
+        if (revocation.expiry().isBefore(Instant.now())) {
+            revocations.remove(tokenKey, revocation);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> consumer) {
+        Instant now = Instant.now();
+        revocations.entrySet().removeIf(entry -> entry.getValue().expiry().isBefore(now));
+        revocations.keySet().forEach(consumer);
+    }
+
+    @Override
+    public void forEachRevokedSince(Instant since, Consumer<String> consumer) {
+        revocations.forEach((tokenKey, revocation) -> {
+            if (!revocation.revokedAt().isBefore(since)) {
+                consumer.accept(tokenKey);
+            }
+        });
+    }
+
+    @Override
+    public void setWatermark(Long userId, Instant notBefore, Instant expiry) {
+        watermarks.put(userId, new Watermark(notBefore, expiry, Instant.now()));
+    }
+
+    @Override
+    public void forEachActiveWatermark(BiConsumer<Long, Instant> consumer) {
+        Instant now = Instant.now();
+        watermarks.entrySet().removeIf(entry -> entry.getValue().expiry().isBefore(now));
+        watermarks.forEach((userId, watermark) -> consumer.accept(userId, watermark.notBefore()));
+    }
+
+    @Override
+    public void forEachWatermarkSince(Instant since, BiConsumer<Long, Instant> consumer) {
+        watermarks.forEach((userId, watermark) -> {
+            if (!watermark.updatedAt().isBefore(since)) {
+                consumer.accept(userId, watermark.notBefore());
+            }
+        });
+    }
+
+    private record Revocation(Instant expiry, Instant revokedAt) {
+    }
+
+    private record Watermark(Instant notBefore, Instant expiry, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.qburst.blog_application.service.revocation.Impl;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.Document.BlacklistedToken;
+import com.qburst.blog_application.security.TokenDigest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-time, idempotent migration of {@code blacklisted_tokens} from full JWT strings
+ * to compact token keys.
+ * <p>
+ * Legacy tokens have no {@code jti}, so each document's key becomes the digest of the
+ * stored token, which is what {@code VerifiedToken.revocationKey()} yields for them.
+ * The raw token field is then removed and its unique index dropped. Runs before the
+ * revocation filter is warmed on {@code ApplicationReadyEvent}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "blog.revocation.store", havingValue = "mongo", matchIfMissing = true)
+public class LegacyBlacklistMigration implements ApplicationRunner {
+
+    private static final String LEGACY_FIELD = "token";
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public LegacyBlacklistMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String collection = mongoTemplate.getCollectionName(BlacklistedToken.class);
+        Query legacy = new Query(Criteria.where(LEGACY_FIELD).exists(true));
+        legacy.fields().include(LEGACY_FIELD).include("revokedAt");
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        int pending = 0;
+        long migrated = 0;
+
+        try (Stream<Document> documents = mongoTemplate.stream(legacy, Document.class, collection)) {
+            Iterator<Document> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                Document document = iterator.next();
+                Update update = new Update()
+                        .set("tokenId", TokenDigest.sha256(document.getString(LEGACY_FIELD)))
+                        .unset(LEGACY_FIELD);
+                if (document.get("revokedAt") == null) {
+                    update.set("revokedAt", Instant.now());
+                }
+
+                bulk.updateOne(new Query(Criteria.where("_id").is(document.get("_id"))), update);
+                migrated++;
+
+                if (++pending == BATCH_SIZE) {
+                    bulk.execute();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                    pending = 0;
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulk.execute();
+        }
+
+        // The unique index on the full token string is what made the collection expensive
+        for (IndexInfo index : mongoTemplate.indexOps(collection).getIndexInfo()) {
+            if (index.isIndexForFields(List.of(LEGACY_FIELD))) {
+                mongoTemplate.indexOps(collection).dropIndex(index.getName());
+                log.info("Dropped legacy index {} on {}", index.getName(), collection);
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("Migrated {} blacklisted tokens to compact token keys", migrated);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.qburst.blog_application.service.revocation.Impl;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.Document.BlacklistedToken;
+import com.qburst.blog_application.Document.UserTokenWatermark;
+import com.qburst.blog_application.repository.BlacklistedTokenRepository;
+import com.qburst.blog_application.repository.UserTokenWatermarkRepository;
+import com.qburst.blog_application.service.revocation.RevocationStore;
+
+/**
+ * Default store backed by the {@code blacklisted_tokens} and
+ * {@code user_token_watermarks} Mongo collections.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.revocation.store", havingValue = "mongo", matchIfMissing = true)
+public class MongoRevocationStore implements RevocationStore {
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final UserTokenWatermarkRepository userTokenWatermarkRepository;
+    private final MongoTemplate mongoTemplate;
+
+    public MongoRevocationStore(BlacklistedTokenRepository blacklistedTokenRepository,
+                                UserTokenWatermarkRepository userTokenWatermarkRepository,
+                                MongoTemplate mongoTemplate) {
+        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.userTokenWatermarkRepository = userTokenWatermarkRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void revoke(String tokenKey, Instant expiry) {
+        blacklistedTokenRepository.save(new BlacklistedToken(tokenKey, expiry));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenKey) {
+        return blacklistedTokenRepository.existsByTokenId(tokenKey);
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> consumer) {
+        stream(Criteria.where("expiry").gt(Instant.now()), consumer);
+    }
+
+    @Override
+    public void forEachRevokedSince(Instant since, Consumer<String> consumer) {
+        stream(Criteria.where("revokedAt").gte(since), consumer);
+    }
+
+    @Override
+    public void setWatermark(Long userId, Instant notBefore, Instant expiry) {
+        // Keyed by user id, so "log out everywhere" is a single upsert
+        userTokenWatermarkRepository.save(new UserTokenWatermark(userId, notBefore, expiry));
+    }
+
+    @Override
+    public void forEachActiveWatermark(BiConsumer<Long, Instant> consumer) {
+        userTokenWatermarkRepository.findByExpiryAfter(Instant.now())
+                .forEach(watermark -> consumer.accept(watermark.getUserId(), watermark.getNotBefore()));
+    }
+
+    @Override
+    public void forEachWatermarkSince(Instant since, BiConsumer<Long, Instant> consumer) {
+        userTokenWatermarkRepository.findByUpdatedAtGreaterThanEqual(since)
+                .forEach(watermark -> consumer.accept(watermark.getUserId(), watermark.getNotBefore()));
+    }
+
+    private void stream(Criteria criteria, Consumer<String> consumer) {
+        Query query = new Query(criteria.and("tokenId").exists(true));
+        query.fields().include("tokenId");
+
+        try (Stream<BlacklistedToken> tokens = mongoTemplate.stream(query, BlacklistedToken.class)) {
+            tokens.map(BlacklistedToken::getTokenId).forEach(consumer);
+        }
+    }
+}
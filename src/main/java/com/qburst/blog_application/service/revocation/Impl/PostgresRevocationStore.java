@@ -0,0 +1,93 @@
+package com.qburst.blog_application.service.revocation.Impl;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qburst.blog_application.entity.RevokedTokenEntity;
+import com.qburst.blog_application.entity.UserTokenWatermarkEntity;
+import com.qburst.blog_application.repository.RevokedTokenRepository;
+import com.qburst.blog_application.repository.UserTokenWatermarkEntityRepository;
+import com.qburst.blog_application.service.revocation.RevocationStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store backed by the {@code revoked_tokens} table. Postgres has no TTL index,
+ * so expired rows are purged on a schedule.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "blog.revocation.store", havingValue = "postgres")
+public class PostgresRevocationStore implements RevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenWatermarkEntityRepository watermarkRepository;
+
+    public PostgresRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                   UserTokenWatermarkEntityRepository watermarkRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.watermarkRepository = watermarkRepository;
+    }
+
+    @Override
+    public void revoke(String tokenKey, Instant expiry) {
+        revokedTokenRepository.save(RevokedTokenEntity.builder()
+                .tokenKey(tokenKey)
+                .expiry(expiry)
+                .revokedAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    public boolean isRevoked(String tokenKey) {
+        return revokedTokenRepository.existsByTokenKey(tokenKey);
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> consumer) {
+        revokedTokenRepository.findActiveTokenKeys(Instant.now()).forEach(consumer);
+    }
+
+    @Override
+    public void forEachRevokedSince(Instant since, Consumer<String> consumer) {
+        revokedTokenRepository.findTokenKeysRevokedSince(since).forEach(consumer);
+    }
+
+    @Override
+    public void setWatermark(Long userId, Instant notBefore, Instant expiry) {
+        watermarkRepository.save(UserTokenWatermarkEntity.builder()
+                .userId(userId)
+                .notBefore(notBefore)
+                .updatedAt(Instant.now())
+                .expiry(expiry)
+                .build());
+    }
+
+    @Override
+    public void forEachActiveWatermark(BiConsumer<Long, Instant> consumer) {
+        watermarkRepository.findByExpiryAfter(Instant.now())
+                .forEach(watermark -> consumer.accept(watermark.getUserId(), watermark.getNotBefore()));
+    }
+
+    @Override
+    public void forEachWatermarkSince(Instant since, BiConsumer<Long, Instant> consumer) {
+        watermarkRepository.findByUpdatedAtGreaterThanEqual(since)
+                .forEach(watermark -> consumer.accept(watermark.getUserId(), watermark.getNotBefore()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${blog.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int purged = revokedTokenRepository.deleteExpired(now) + watermarkRepository.deleteExpired(now);
+        if (purged > 0) {
+            log.info("Purged {} expired revocations", purged);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.qburst.blog_application.service.revocation;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Durable record of revoked tokens. The request path never calls this directly;
+ * it goes through {@link TokenRevocationService}, which only consults the store
+ * when its local Bloom filter reports a possible match.
+ */
+public interface RevocationStore {
+
+    /**
+     * @param tokenKey the token's jti, or its digest for tokens without one
+     */
+    void revoke(String tokenKey, Instant expiry);
+
+    boolean isRevoked(String tokenKey);
+
+    /**
+     * Feeds every revocation that has not yet expired to the consumer.
+     */
+    void forEachActive(Consumer<String> consumer);
+
+    /**
+     * Feeds every revocation recorded at or after {@code since} to the consumer.
+     */
+    void forEachRevokedSince(Instant since, Consumer<String> consumer);
+
+    /**
+     * Records that every token of the user issued before {@code notBefore} is invalid.
+     * The marker can be dropped after {@code expiry}, when all such tokens have expired.
+     */
+    void setWatermark(Long userId, Instant notBefore, Instant expiry);
+
+    void forEachActiveWatermark(BiConsumer<Long, Instant> consumer);
+
+    void forEachWatermarkSince(Instant since, BiConsumer<Long, Instant> consumer);
+}
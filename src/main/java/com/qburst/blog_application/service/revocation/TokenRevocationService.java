@@ -0,0 +1,186 @@
+package com.qburst.blog_application.service.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.service.jwt.VerifiedToken;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process view of revoked tokens that sits in front of the {@link RevocationStore}.
+ * <p>
+ * A Bloom filter holds every active revocation, so the common case (token not revoked)
+ * is answered from memory. Only filter hits that are not already in the exact set of
+ * confirmed revocations go to the store. The view is warmed at startup, kept current
+ * by polling the store for new revocations, and rebuilt periodically so expired
+ * entries do not accumulate in the filter.
+ * <p>
+ * Per-user "not before" watermarks (log out everywhere) are few, so they are held
+ * exactly in a map and never require a store lookup.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    // Overlap between polls so revocations committed around the poll boundary are not missed
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(2);
+
+    private final RevocationStore revocationStore;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Set<String> confirmedRevocations = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Instant> watermarks = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant lastPoll;
+    private volatile boolean ready;
+
+    public TokenRevocationService(RevocationStore revocationStore,
+                                  @Value("${blog.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${blog.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revocationStore = revocationStore;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public void revoke(String tokenKey, Instant expiry) {
+        revocationStore.revoke(tokenKey, expiry);
+        bloomFilter.put(tokenKey);
+        confirmedRevocations.add(tokenKey);
+    }
+
+    /**
+     * Invalidates every token of the user issued before {@code notBefore} with a single write.
+     *
+     * @param maxTokenLifetime how long tokens issued before the watermark can still be alive
+     */
+    public void revokeAllBefore(Long userId, Instant notBefore, Duration maxTokenLifetime) {
+        revocationStore.setWatermark(userId, notBefore, notBefore.plus(maxTokenLifetime));
+        watermarks.merge(userId, notBefore, this::later);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.userId() != null) {
+            Instant watermark = watermarks.get(token.userId());
+            if (watermark != null && token.issuedBefore(watermark)) {
+                return true;
+            }
+        }
+        return isRevoked(token.revocationKey());
+    }
+
+    public boolean isRevoked(String tokenKey) {
+        // Until the filter has been warmed it cannot rule anything out
+        if (!ready) {
+            return revocationStore.isRevoked(tokenKey);
+        }
+
+        if (!bloomFilter.mightContain(tokenKey)) {
+            return false;
+        }
+
+        if (confirmedRevocations.contains(tokenKey)) {
+            return true;
+        }
+
+        boolean revoked = revocationStore.isRevoked(tokenKey);
+        if (revoked) {
+            confirmedRevocations.add(tokenKey);
+        }
+        return revoked;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ready = loadFilter();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.revocation.poll-interval-ms:5000}",
+            initialDelayString = "${blog.revocation.poll-interval-ms:5000}")
+    public void pollForRevocations() {
+        if (!ready) {
+            // Warm-up failed earlier (e.g. store unavailable at startup); keep trying
+            ready = loadFilter();
+            return;
+        }
+
+        Instant since = lastPoll.minus(POLL_OVERLAP);
+        Instant polledAt = Instant.now();
+
+        try {
+            revocationStore.forEachRevokedSince(since, bloomFilter::put);
+            revocationStore.forEachWatermarkSince(since, this::applyWatermark);
+            lastPoll = polledAt;
+        } catch (RuntimeException ex) {
+            log.warn("Polling revocation store failed: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${blog.revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (ready) {
+            loadFilter();
+        }
+    }
+
+    private boolean loadFilter() {
+        Instant startedAt = Instant.now();
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long[] count = {0};
+
+        Map<Long, Instant> activeWatermarks = new ConcurrentHashMap<>();
+
+        try {
+            revocationStore.forEachActive(tokenKey -> {
+                filter.put(tokenKey);
+                count[0]++;
+            });
+            revocationStore.forEachActiveWatermark(activeWatermarks::put);
+        } catch (RuntimeException ex) {
+            log.error("Failed to load revoked tokens, keeping the previous filter", ex);
+            return false;
+        }
+
+        bloomFilter = filter;
+        confirmedRevocations.clear();
+        watermarks.keySet().retainAll(activeWatermarks.keySet());
+        activeWatermarks.forEach(this::applyWatermark);
+        lastPoll = startedAt;
+
+        // Pick up anything revoked while the snapshot was being loaded
+        try {
+            revocationStore.forEachRevokedSince(startedAt.minus(POLL_OVERLAP), filter::put);
+            revocationStore.forEachWatermarkSince(startedAt.minus(POLL_OVERLAP), this::applyWatermark);
+        } catch (RuntimeException ex) {
+            lastPoll = startedAt.minus(POLL_OVERLAP);
+        }
+
+        if (count[0] > expectedInsertions) {
+            log.warn("{} active revocations exceed the Bloom filter sizing of {}; false positives will rise",
+                    count[0], expectedInsertions);
+        }
+        log.info("Revocation filter loaded with {} active revocations and {} user watermarks",
+                count[0], activeWatermarks.size());
+        return true;
+    }
+
+    private void applyWatermark(Long userId, Instant notBefore) {
+        watermarks.merge(userId, notBefore, this::later);
+    }
+
+    private Instant later(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
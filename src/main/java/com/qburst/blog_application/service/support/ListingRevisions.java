@@ -0,0 +1,99 @@
+package com.qburst.blog_application.service.support;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.repository.CategoryRepository;
+import com.qburst.blog_application.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory revision counters for post listings, folded into their {@link ListingVersion}.
+ * <p>
+ * They cover the changes a listing's newest {@code updated_at} and total cannot see:
+ * removing a post from a scope, and renaming or deleting an author or category whose
+ * name is shown on the cards. Scope counters are bumped when a post leaves the scope;
+ * the shared counter, part of every scope's revision, is bumped when a name on the
+ * cards changes. Local changes are applied after commit; renames and deletions made on
+ * other nodes are picked up by polling the newest {@code updated_at} of users and
+ * categories. Counters are per node, so nodes may tag the same listing differently;
+ * that only costs revalidation hits, never freshness.
+ */
+@Slf4j
+@Service
+public class ListingRevisions {
+
+    public static final String PUBLISHED = "published";
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final AtomicLong shared = new AtomicLong();
+    private final Map<String, AtomicLong> scopes = new ConcurrentHashMap<>();
+    private volatile List<Object> namesFingerprint;
+
+    public ListingRevisions(UserRepository userRepository, CategoryRepository categoryRepository) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public static String author(Long authorId) {
+        return "author:" + authorId;
+    }
+
+    public static String category(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    public static String tag(Long tagId) {
+        return "tag:" + tagId;
+    }
+
+    public long revision(String scope) {
+        AtomicLong counter = scopes.get(scope);
+        return shared.get() + (counter != null ? counter.get() : 0);
+    }
+
+    /**
+     * Records that a post left the given scopes. Applied once the current transaction commits.
+     */
+    public void bumpAfterCommit(Collection<String> changed) {
+        List<String> copy = List.copyOf(changed);
+        TransactionCallbacks.afterCommit(() ->
+                copy.forEach(scope -> scopes.computeIfAbsent(scope, k -> new AtomicLong()).incrementAndGet()));
+    }
+
+    /**
+     * Records that an author or category name shown on the cards changed, which affects
+     * every listing. Applied once the current transaction commits.
+     */
+    public void bumpAllAfterCommit() {
+        TransactionCallbacks.afterCommit(shared::incrementAndGet);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.listings.revision-poll-interval-ms:5000}")
+    public void pollNames() {
+        try {
+            LocalDateTime usersModified = userRepository.findLastUpdate();
+            Object[] categories = categoryRepository.findLastUpdateAndCount().getFirst();
+            List<Object> fingerprint = Arrays.asList(usersModified, categories[0], categories[1]);
+
+            List<Object> previous = namesFingerprint;
+            namesFingerprint = fingerprint;
+            if (previous != null && !Objects.equals(previous, fingerprint)) {
+                shared.incrementAndGet();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Polling listing name changes failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.qburst.blog_application.service.support;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.qburst.blog_application.repository.TableStatisticsRepository;
+
+/**
+ * Builds {@link Page} responses from a {@link Slice} (fetched without a count query)
+ * and a total that comes from somewhere cheaper than {@code count(*)}.
+ */
+@Component
+public class ListingTotals {
+
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final boolean useEstimates;
+    private final long exactBelow;
+
+    public ListingTotals(TableStatisticsRepository tableStatisticsRepository,
+                         @Value("${blog.counts.admin-listings.estimate:true}") boolean useEstimates,
+                         @Value("${blog.counts.admin-listings.exact-below:10000}") long exactBelow) {
+        this.tableStatisticsRepository = tableStatisticsRepository;
+        this.useEstimates = useEstimates;
+        this.exactBelow = exactBelow;
+    }
+
+    /**
+     * Total for an unfiltered listing of a whole table. Uses the planner estimate when
+     * enabled and the table is large; small or never analyzed tables are counted exactly.
+     */
+    public long tableTotal(String table, LongSupplier exactCount) {
+        if (!useEstimates) {
+            return exactCount.getAsLong();
+        }
+        long estimate = tableStatisticsRepository.estimateRowCount(table);
+        return estimate < exactBelow ? exactCount.getAsLong() : estimate;
+    }
+
+    /**
+     * The total is kept consistent with what the slice itself proves: at least every row
+     * up to this page, plus one more when a next page exists, and exact on the last page.
+     */
+    public static <T> Page<T> toPage(Slice<T> slice, long total) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+
+        long consistentTotal;
+        if (slice.hasNext()) {
+            consistentTotal = Math.max(total, seen + 1);
+        } else {
+            // Past the end nothing is proven, so keep the cached figure
+            consistentTotal = slice.hasContent() ? seen : total;
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), consistentTotal);
+    }
+}
@@ -0,0 +1,20 @@
+package com.qburst.blog_application.service.support;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of a listing's scope, used to build its weak ETag without
+ * loading the page: the newest modification time, read with a single index probe,
+ * the number of rows from a cached total, and a revision that moves when rows leave
+ * the scope or names shown in it change.
+ *
+ * @param lastModified greatest {@code updated_at} in the scope, {@code null} when it is empty
+ * @param total        number of rows in the scope
+ * @param revision     see {@link ListingRevisions}; 0 for scopes without one
+ */
+public record ListingVersion(LocalDateTime lastModified, long total, long revision) {
+
+    public ListingVersion(LocalDateTime lastModified, long total) {
+        this(lastModified, total, 0);
+    }
+}
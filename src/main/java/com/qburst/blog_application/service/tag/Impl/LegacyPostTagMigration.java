@@ -0,0 +1,142 @@
+package com.qburst.blog_application.service.tag.Impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qburst.blog_application.config.DatabaseScriptsInitializer;
+import com.qburst.blog_application.service.tag.TagNormalizer;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-time migration of the free-text {@code post_tags(post_id, tag)} collection to
+ * interned tags.
+ * <p>
+ * Raw tags are normalized in Java by {@link TagNormalizer}, the same code that interns
+ * tags at runtime, so migrated names match the ones later requests look up. Distinct
+ * names become {@code tags} rows, each post's tags become {@code post_tag_links}, post
+ * counts are computed once, and the old table is renamed to {@code post_tags_legacy},
+ * all in one transaction. Once renamed the migration finds nothing to do on later startups.
+ * <p>
+ * Runs while the context starts, after the schema update and the Postgres scripts and
+ * before the web server accepts requests, so no request ever sees posts without tags.
+ * Instances starting together serialize on an advisory lock; the ones that wait find
+ * the table already renamed.
+ */
+@Slf4j
+@Component
+public class LegacyPostTagMigration {
+
+    // Arbitrary key shared by every instance, only used for this migration
+    private static final long LOCK_KEY = 0x7461675f6d6967L;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_TAG =
+            "INSERT INTO tags (name, post_count) VALUES (?, 0) ON CONFLICT (name) DO NOTHING";
+
+    private static final String INSERT_LINK =
+            "INSERT INTO post_tag_links (post_id, tag_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String COUNT_POSTS =
+            "UPDATE tags t SET post_count = (" +
+                    "SELECT count(*) FROM post_tag_links l JOIN posts p ON p.id = l.post_id " +
+                    "WHERE l.tag_id = t.id AND p.is_published = true AND p.is_deleted = false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Depending on DatabaseScriptsInitializer makes the migration run after the schema is complete
+    public LegacyPostTagMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  DatabaseScriptsInitializer databaseScriptsInitializer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!legacyTableExists()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Held until commit; re-check afterwards in case another instance migrated meanwhile
+            jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(?)", Integer.class, LOCK_KEY);
+            if (!legacyTableExists()) {
+                return;
+            }
+
+            Map<String, String> names = normalizedNames();
+            Map<String, Long> tagIds = internTags(new TreeSet<>(names.values()));
+            int links = insertLinks(names, tagIds);
+            jdbcTemplate.update(COUNT_POSTS);
+            jdbcTemplate.execute("ALTER TABLE post_tags RENAME TO post_tags_legacy");
+            log.info("Migrated post_tags to {} interned tags and {} post links", tagIds.size(), links);
+        });
+    }
+
+    private boolean legacyTableExists() {
+        return jdbcTemplate.queryForObject("SELECT to_regclass('post_tags')::text", String.class) != null;
+    }
+
+    // Raw tag to its canonical name; tags that normalize to nothing are left out
+    private Map<String, String> normalizedNames() {
+        Map<String, String> names = new HashMap<>();
+        jdbcTemplate.query("SELECT DISTINCT tag FROM post_tags WHERE tag IS NOT NULL", (RowCallbackHandler) rs -> {
+            String raw = rs.getString(1);
+            String name = TagNormalizer.normalize(raw);
+            if (name != null) {
+                names.put(raw, name);
+            }
+        });
+        return names;
+    }
+
+    private Map<String, Long> internTags(Set<String> names) {
+        List<Object[]> rows = names.stream().map(name -> new Object[]{name}).toList();
+        jdbcTemplate.batchUpdate(INSERT_TAG, rows);
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags", (RowCallbackHandler) rs -> {
+            if (names.contains(rs.getString(2))) {
+                ids.put(rs.getString(2), rs.getLong(1));
+            }
+        });
+        return ids;
+    }
+
+    private int insertLinks(Map<String, String> names, Map<String, Long> tagIds) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int[] total = {0};
+        jdbcTemplate.query("SELECT post_id, tag FROM post_tags", (RowCallbackHandler) rs -> {
+            String name = names.get(rs.getString(2));
+            if (name == null) {
+                return;
+            }
+            batch.add(new Object[]{rs.getLong(1), tagIds.get(name)});
+            if (batch.size() == BATCH_SIZE) {
+                total[0] += flushLinks(batch);
+            }
+        });
+        return total[0] + flushLinks(batch);
+    }
+
+    private int flushLinks(List<Object[]> batch) {
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_LINK, batch)) {
+            inserted += Math.max(count, 0);
+        }
+        batch.clear();
+        return inserted;
+    }
+}
@@ -0,0 +1,131 @@
+package com.qburst.blog_application.service.tag.Impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.qburst.blog_application.dto.response.tag.TagCountResponse;
+import com.qburst.blog_application.entity.TagEntity;
+import com.qburst.blog_application.repository.TagRepository;
+import com.qburst.blog_application.service.support.TransactionCallbacks;
+import com.qburst.blog_application.service.tag.TagNormalizer;
+import com.qburst.blog_application.service.tag.TagService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Interns tags and keeps their post counts.
+ * <p>
+ * Counts are adjusted by the writers of posts in their own transaction, so the tag cloud
+ * is a read of the top of the {@code post_count} index instead of a {@code GROUP BY} over
+ * all links. The cloud itself is cached for {@code blog.tags.cloud-ttl-seconds} and dropped
+ * whenever a count written through this node commits.
+ */
+@Service
+public class TagServiceImpl implements TagService {
+
+    private static final String CLOUD_KEY = "cloud";
+
+    // A concurrent writer creating the same tag turns the insert into a no-op instead of
+    // failing the transaction on the unique constraint
+    private static final String INSERT_TAG = "INSERT INTO tags (name, post_count) VALUES (?, 0) ON CONFLICT (name) DO NOTHING";
+
+    private static final String ADJUST_COUNT = "UPDATE tags SET post_count = post_count + ? WHERE id = ?";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int cloudSize;
+    private final LoadingCache<String, List<TagCountResponse>> cloud;
+
+    public TagServiceImpl(TagRepository tagRepository,
+                          JdbcTemplate jdbcTemplate,
+                          @Value("${blog.tags.cloud-size:100}") int cloudSize,
+                          @Value("${blog.tags.cloud-ttl-seconds:60}") long cloudTtlSeconds) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cloudSize = cloudSize;
+        this.cloud = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cloudTtlSeconds))
+                .build(key -> List.copyOf(tagRepository.findTopByPostCount(PageRequest.of(0, this.cloudSize))));
+    }
+
+    @Override
+    @Transactional
+    public Set<TagEntity> intern(Collection<String> names) {
+        // Sorted, so concurrent writers insert shared new tags in the same order
+        Set<String> normalized = names.stream()
+                .map(TagNormalizer::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (normalized.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<TagEntity> tags = new HashSet<>(tagRepository.findByNameIn(normalized));
+        if (tags.size() < normalized.size()) {
+            Set<String> missing = new TreeSet<>(normalized);
+            tags.forEach(tag -> missing.remove(tag.getName()));
+
+            jdbcTemplate.batchUpdate(INSERT_TAG, missing.stream().map(name -> new Object[]{name}).toList());
+            tags.addAll(tagRepository.findByNameIn(missing));
+        }
+        return tags;
+    }
+
+    @Override
+    @Transactional
+    public void recordPublished(Collection<TagEntity> before, Collection<TagEntity> after) {
+        Map<Long, Long> deltas = new HashMap<>();
+        before.forEach(tag -> deltas.merge(tag.getId(), -1L, Long::sum));
+        after.forEach(tag -> deltas.merge(tag.getId(), 1L, Long::sum));
+        adjustPostCounts(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void adjustPostCounts(Map<Long, Long> deltas) {
+        // Rows are locked in id order, so two writers sharing tags cannot deadlock
+        List<Object[]> batch = deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADJUST_COUNT, batch);
+        TransactionCallbacks.afterCommit(cloud::invalidateAll);
+    }
+
+    @Override
+    public Optional<Long> findTagId(String name) {
+        String normalized = TagNormalizer.normalize(name);
+        return normalized != null ? tagRepository.findIdByName(normalized) : Optional.empty();
+    }
+
+    @Override
+    public Optional<TagEntity> findTag(String name) {
+        String normalized = TagNormalizer.normalize(name);
+        return normalized != null ? tagRepository.findByName(normalized) : Optional.empty();
+    }
+
+    @Override
+    public List<TagCountResponse> getTagCloud(int limit) {
+        List<TagCountResponse> top = cloud.get(CLOUD_KEY);
+        return top.subList(0, Math.clamp(limit, 0, top.size()));
+    }
+}
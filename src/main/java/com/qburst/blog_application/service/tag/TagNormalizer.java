@@ -0,0 +1,35 @@
+package com.qburst.blog_application.service.tag;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of a tag name: whitespace runs collapsed to one space, trimmed,
+ * lower-cased and cut to {@link #MAX_LENGTH} characters, so {@code "Spring  Boot"} and
+ * {@code "spring boot"} intern to the same tag.
+ */
+public final class TagNormalizer {
+
+    public static final int MAX_LENGTH = 50;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private TagNormalizer() {
+    }
+
+    /**
+     * @return the canonical name, or {@code null} when nothing is left of the input
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+
+        // Collapse first: strip() alone misses Unicode spaces such as U+00A0 that the pattern matches
+        String name = WHITESPACE.matcher(tag).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+        if (name.length() > MAX_LENGTH) {
+            name = name.substring(0, MAX_LENGTH).stripTrailing();
+        }
+        return name.isEmpty() ? null : name;
+    }
+}
@@ -0,0 +1,37 @@
+package com.qburst.blog_application.service.tag;
+
+import com.qburst.blog_application.dto.response.tag.TagCountResponse;
+import com.qburst.blog_application.entity.TagEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TagService {
+
+    /**
+     * Resolves tag names to their tags, creating the missing ones. Names are normalized
+     * first; names that normalize to nothing are dropped.
+     */
+    Set<TagEntity> intern(Collection<String> names);
+
+    /**
+     * Adjusts post counts for a post whose tags, as counted in the cloud, went from
+     * {@code before} to {@code after}. Pass an empty collection for a side on which the
+     * post was not published.
+     */
+    void recordPublished(Collection<TagEntity> before, Collection<TagEntity> after);
+
+    /**
+     * Adds the given deltas to the post counts of the tags, keyed by tag id.
+     */
+    void adjustPostCounts(Map<Long, Long> deltas);
+
+    Optional<Long> findTagId(String name);
+
+    Optional<TagEntity> findTag(String name);
+
+    List<TagCountResponse> getTagCloud(int limit);
+}
@@ -4,16 +4,18 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.qburst.blog_application.entity.UserEntity;
 import com.qburst.blog_application.security.UserPrincipal;
 import com.qburst.blog_application.repository.UserRepository;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -28,4 +30,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserPrincipal(userEntities.get());
     }
+
+    /**
+     * Called by the authentication provider after a successful login whose stored hash
+     * was created with a weaker cost than the one currently configured.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity userEntity = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + user.getUsername()));
+
+        userEntity.setPassword(newPassword);
+
+        return new UserPrincipal(userRepository.save(userEntity));
+    }
 }
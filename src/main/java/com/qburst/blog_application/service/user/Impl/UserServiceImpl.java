@@ -3,9 +3,7 @@ package com.qburst.blog_application.service.user.Impl;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
 
-import com.qburst.blog_application.Document.BlacklistedToken;
 import com.qburst.blog_application.dto.request.auth.LoginRequest;
 import com.qburst.blog_application.dto.response.user.UserAddResponse;
 import com.qburst.blog_application.dto.response.user.UserListResponse;
@@ -15,20 +13,31 @@ import com.qburst.blog_application.exception.auth.*;
 import com.qburst.blog_application.exception.user.UserNameAlreadyExistsException;
 import com.qburst.blog_application.exception.user.UserNotFoundException;
 import com.qburst.blog_application.mapper.UserMapper;
-import com.qburst.blog_application.repository.BlacklistedTokenRepository;
-import com.qburst.blog_application.service.email.EmailService;
 import com.qburst.blog_application.service.jwt.JwtService;
+import com.qburst.blog_application.service.jwt.RefreshTokenService;
+import com.qburst.blog_application.service.jwt.VerifiedToken;
+import com.qburst.blog_application.service.revocation.TokenRevocationService;
+import com.qburst.blog_application.service.support.ListingRevisions;
+import com.qburst.blog_application.service.support.ListingTotals;
+import com.qburst.blog_application.service.support.TransactionCallbacks;
+import com.qburst.blog_application.service.user.PasswordResetDispatcher;
+import com.qburst.blog_application.service.user.TokenVersionRegistry;
+import com.qburst.blog_application.security.LoginAttemptTracker;
+import com.qburst.blog_application.security.LoginBulkhead;
+import com.qburst.blog_application.security.OtpHasher;
+import com.qburst.blog_application.security.PasswordResetRateLimiter;
+import com.qburst.blog_application.security.UserPrincipal;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.qburst.blog_application.dto.response.auth.AuthResponse;
@@ -43,13 +52,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UserServiceImpl implements com.qburst.blog_application.service.user.UserService {
 
+    private static final int MAX_OTP_ATTEMPTS = 5;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private ModelMapper modelMapper;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LoginBulkhead loginBulkhead;
+
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
 
     @Autowired
     private AuthenticationManager authenticationManager;
@@ -57,16 +75,35 @@ public class UserServiceImpl implements com.qburst.blog_application.service.user
     @Autowired
     private JwtService jwtService;
 
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private OtpHasher otpHasher;
+
+    @Autowired
+    private PasswordResetRateLimiter passwordResetRateLimiter;
+
+    @Autowired
+    private PasswordResetDispatcher passwordResetDispatcher;
+
+    @Autowired
+    private ListingTotals listingTotals;
+
+    @Autowired
+    private ListingRevisions listingRevisions;
 
-    private final EmailService emailService;
+    private final TokenRevocationService tokenRevocationService;
 
     private final UserMapper userMapper;
 
-    public UserServiceImpl(UserMapper userMapper, EmailService emailService, BlacklistedTokenRepository blacklistedTokenRepository) {
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public UserServiceImpl(UserMapper userMapper, TokenRevocationService tokenRevocationService,
+                           TokenVersionRegistry tokenVersionRegistry) {
         this.userMapper = userMapper;
-        this.emailService = emailService;
-        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Override
@@ -98,13 +135,44 @@ public class UserServiceImpl implements com.qburst.blog_application.service.user
         String token = authorization.substring(7);
 
         try {
-            Instant expiry = jwtService.extractExpiry(token);
-            blacklistedTokenRepository.save(new BlacklistedToken(token, expiry));
+            // Only the jti is stored, not the full token
+            VerifiedToken verifiedToken = jwtService.verify(token);
+            tokenRevocationService.revoke(verifiedToken.revocationKey(), verifiedToken.expiresAt());
+
+            // End the refresh session this device was using as well
+            if (verifiedToken.sessionId() != null) {
+                refreshTokenService.revokeSession(verifiedToken.sessionId());
+            }
         } catch (Exception e) {
             throw new TokenProcessingException("Failed to blacklist token");
         }
     }
 
+    @Override
+    public void logoutEverywhere(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new UnauthorizedException("Missing or invalid Authorization header");
+        }
+
+        String token = authorization.substring(7);
+
+        try {
+            VerifiedToken verifiedToken = jwtService.verify(token);
+            if (verifiedToken.userId() == null) {
+                throw new TokenProcessingException("Token does not identify a user");
+            }
+
+            // One watermark write replaces a blacklist entry per outstanding token
+            tokenRevocationService.revokeAllBefore(verifiedToken.userId(), Instant.now(), jwtService.getAccessTokenTtl());
+            tokenRevocationService.revoke(verifiedToken.revocationKey(), verifiedToken.expiresAt());
+            refreshTokenService.revokeAllSessions(verifiedToken.userId());
+        } catch (TokenProcessingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TokenProcessingException("Failed to revoke tokens");
+        }
+    }
+
     @Override
     public UserResponse getUserProfile(String username) {
         UserEntity user = userRepository.findByUsername(username)
@@ -127,34 +195,49 @@ public class UserServiceImpl implements com.qburst.blog_application.service.user
 
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + userId));
+
+        // Bump before the soft delete so other nodes see the change through updated_at
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        invalidateTokens(userRepository.saveAndFlush(user));
         userRepository.delete(user);
+        listingRevisions.bumpAllAfterCommit();
 
         log.info("Successfully deleted user with ID: {}", userId);
     }
 
     public AuthResponse authenticate(LoginRequest request) {
+        // Locked accounts are rejected here, before any password hashing is paid for
+        loginAttemptTracker.checkNotLocked(request.username());
+
         try {
-            // This triggers UserDetailsService and checks the password
-            Authentication authentication = authenticationManager.authenticate(
+            // This triggers UserDetailsService and checks the password, inside the login bulkhead
+            // so password hashing cannot take every core
+            Authentication authentication = loginBulkhead.execute(() -> authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.username(), request.password())
-            );
+            ));
+
+            loginAttemptTracker.recordSuccess(request.username());
 
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String token = jwtService.generateAccessToken(userDetails);
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-//            if (userDetails instanceof UserPrincipal principal) {
-//                log.info("Login successful for User ID: {}", principal.getUserEntity().getId());
-//            }
-            log.info("User login successful: {}", userDetails.getUsername());
+            log.info("User login successful: {} (id {})", principal.getUsername(), principal.getId());
 
-            return new AuthResponse(token);
+            // Access token plus a refresh token, so the client does not log in again every half hour
+            return refreshTokenService.startSession(principal);
 
-        } catch (BadCredentialsException | InternalAuthenticationServiceException ex) {
+        } catch (BadCredentialsException ex) {
+            loginAttemptTracker.recordFailure(request.username());
+            throw new InvalidUserNameOrPasswordException("Invalid username or password");
+        } catch (InternalAuthenticationServiceException ex) {
             // Map Spring's internal exceptions to your custom business exception
             throw new InvalidUserNameOrPasswordException("Invalid username or password");
         }
     }
 
+    public AuthResponse refreshToken(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
+
     @Transactional
     public UserResponse updateProfile(String username, UserUpdateRequest userUpdateRequest) {
         // Find the existing user or throw exception
@@ -172,29 +255,75 @@ public class UserServiceImpl implements com.qburst.blog_application.service.user
             userEntity.setPassword(passwordEncoder.encode(userUpdateRequest.password()));
         }
 
+        // Outstanding tokens carry the old profile, so retire them
+        userEntity.setTokenVersion(userEntity.getTokenVersion() + 1);
+
         // Save and return the DTO
         UserEntity savedUser = userRepository.save(userEntity);
+        invalidateTokens(savedUser);
+
+        // Post cards show the author's name
+        if (userUpdateRequest.firstname() != null || userUpdateRequest.lastname() != null) {
+            listingRevisions.bumpAllAfterCommit();
+        }
+
+        return modelMapper.map(savedUser, UserResponse.class);
+    }
+
+    @Transactional
+    public UserResponse updateRoles(Long userId, String roles) {
+        UserEntity userEntity = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + userId));
+
+        userEntity.setRoles(roles);
+
+        // Tokens carry roles as claims, so existing ones must not outlive a role change
+        userEntity.setTokenVersion(userEntity.getTokenVersion() + 1);
+
+        UserEntity savedUser = userRepository.save(userEntity);
+        invalidateTokens(savedUser);
+
+        log.info("Updated roles for user ID {} to {}", userId, roles);
 
         return modelMapper.map(savedUser, UserResponse.class);
     }
 
+    private void invalidateTokens(UserEntity user) {
+        Long userId = user.getId();
+        int version = user.getTokenVersion();
+        TransactionCallbacks.afterCommit(() -> tokenVersionRegistry.update(userId, version));
+    }
+
     public Page<UserListResponse> getUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
+        Slice<UserListResponse> users = userRepository.findAllBy(pageable)
                 .map(user -> modelMapper.map(user, UserListResponse.class));
+
+        return ListingTotals.toPage(users, listingTotals.tableTotal("users", userRepository::count));
     }
 
-    @Transactional
-    public void resetPassword(String email, String otp, String newPassword) {
+    // Rejected OTPs must still commit the attempt counter
+    @Transactional(noRollbackFor = {InvalidOtpException.class, OtpExpiredException.class})
+    public void resetPassword(String email, String otp, String newPassword, String clientAddress) {
+        passwordResetRateLimiter.acquireVerification(email, clientAddress);
+
         UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+                .orElseThrow(() -> new InvalidOtpException("Invalid OTP"));
+
+        if (user.getOtp() == null || user.getOtpExpiry() == null) {
+            throw new InvalidOtpException("Invalid OTP");
+        }
 
         // Check Expiry
         if (user.getOtpExpiry().isBefore(LocalDateTime.now())) {
             throw new OtpExpiredException("OTP has expired");
         }
 
-        // Validate OTP
-        if (!passwordEncoder.matches(otp, user.getOtp())) {
+        // Take an attempt atomically before checking the code; the code is dropped once the budget is spent
+        if (userRepository.claimOtpAttempt(user.getId(), user.getOtp(), MAX_OTP_ATTEMPTS) == 0) {
+            throw new InvalidOtpException("Invalid OTP");
+        }
+        if (!otpHasher.matches(user.getEmail(), otp, user.getOtp())) {
+            userRepository.discardSpentOtp(user.getId(), user.getOtp(), MAX_OTP_ATTEMPTS);
             throw new InvalidOtpException("Invalid OTP");
         }
 
@@ -202,20 +331,20 @@ public class UserServiceImpl implements com.qburst.blog_application.service.user
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setOtp(null);
         user.setOtpExpiry(null);
-        userRepository.save(user);
-    }
+        user.setOtpAttempts(0);
 
-    public void requestPasswordReset(String email) {
-        UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
-
-        // Generate 6-digit OTP
-        String otp = String.valueOf(new Random().nextInt(900000) + 100000);
-        user.setOtp(passwordEncoder.encode(otp)); // Securely hash the OTP
-        user.setOtpExpiry(LocalDateTime.now().plusMinutes(10)); // Valid for 10 mins
-
-        userRepository.save(user);
+        // Sessions and access tokens issued under the old password must not outlive it
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        invalidateTokens(userRepository.save(user));
+        refreshTokenService.revokeAllSessions(user.getId());
+    }
 
-        emailService.sendOtpEmail(user.getEmail(), otp);
+    /**
+     * Takes rate limit permits and queues the OTP for background delivery.
+     * Returns without touching the database or the mail server.
+     */
+    public void requestPasswordReset(String email, String clientAddress) {
+        passwordResetRateLimiter.acquire(email, clientAddress);
+        passwordResetDispatcher.dispatch(email);
     }
 }
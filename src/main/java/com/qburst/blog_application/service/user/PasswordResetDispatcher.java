@@ -0,0 +1,72 @@
+package com.qburst.blog_application.service.user;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qburst.blog_application.entity.UserEntity;
+import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.security.OtpHasher;
+import com.qburst.blog_application.service.email.EmailService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and mails password reset OTPs off the request thread.
+ * The request only takes rate limit permits and enqueues; the lookup, the write and
+ * the SMTP round trip happen here. Unknown addresses are ignored silently, so the
+ * endpoint answers the same way whether or not an account exists.
+ */
+@Slf4j
+@Service
+public class PasswordResetDispatcher {
+
+    private static final int OTP_VALIDITY_MINUTES = 10;
+
+    private final UserRepository userRepository;
+    private final OtpHasher otpHasher;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    public PasswordResetDispatcher(UserRepository userRepository,
+                                   OtpHasher otpHasher,
+                                   EmailService emailService,
+                                   TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.otpHasher = otpHasher;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Async("passwordResetExecutor")
+    public void dispatch(String email) {
+        String otp = otpHasher.generateOtp();
+
+        // Commit before mailing, so the connection is not held during the SMTP call
+        String recipient = transactionTemplate.execute(status ->
+                userRepository.findByEmail(email)
+                        .map(user -> storeOtp(user, otp))
+                        .orElse(null));
+
+        if (recipient == null) {
+            log.debug("Password reset requested for unknown email");
+            return;
+        }
+
+        try {
+            emailService.sendOtpEmail(recipient, otp);
+        } catch (RuntimeException ex) {
+            log.error("Sending password reset OTP failed", ex);
+        }
+    }
+
+    private String storeOtp(UserEntity user, String otp) {
+        user.setOtp(otpHasher.hash(user.getEmail(), otp));
+        user.setOtpExpiry(LocalDateTime.now().plusMinutes(OTP_VALIDITY_MINUTES));
+        user.setOtpAttempts(0);
+        userRepository.save(user);
+        return user.getEmail();
+    }
+}
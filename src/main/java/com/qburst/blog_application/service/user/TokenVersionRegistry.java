@@ -0,0 +1,70 @@
+package com.qburst.blog_application.service.user;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.qburst.blog_application.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory map of user id to the minimum token version still accepted.
+ * <p>
+ * Only users whose version has ever been bumped are tracked. Local bumps are applied
+ * after commit; bumps made on other nodes are picked up by polling recently updated
+ * users, so the authentication hot path never reads the users table.
+ */
+@Slf4j
+@Service
+public class TokenVersionRegistry {
+
+    // Overlap between polls so rows committed around the poll boundary are not missed
+    private static final long POLL_OVERLAP_SECONDS = 5;
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> minimumVersions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastPoll = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return true;
+        }
+
+        Integer minimum = minimumVersions.get(userId);
+        return minimum == null || tokenVersion >= minimum;
+    }
+
+    public void update(Long userId, int version) {
+        minimumVersions.merge(userId, version, Math::max);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.jwt.user-version-poll-interval-ms:5000}",
+            initialDelayString = "${blog.jwt.user-version-poll-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime polledAt = LocalDateTime.now();
+
+        try {
+            for (Object[] row : userRepository.findTokenVersionsUpdatedSince(lastPoll.minusSeconds(POLL_OVERLAP_SECONDS))) {
+                update(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+            }
+            lastPoll = polledAt;
+        } catch (RuntimeException ex) {
+            log.warn("Refreshing user token versions failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -12,6 +12,8 @@ public interface UserService {
 
     void logout(String authToken);
 
+    void logoutEverywhere(String authToken);
+
     UserResponse getUserProfile(String username);
 
     UserResponse getUser(Long userId);
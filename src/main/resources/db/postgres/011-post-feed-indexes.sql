@@ -0,0 +1,13 @@
+-- Keyset feeds seek on (created_at, id) within published, live posts.
+-- Partial indexes keep drafts and deleted rows out of the feed ranges.
+CREATE INDEX IF NOT EXISTS idx_posts_feed
+    ON posts (created_at DESC, id DESC)
+    WHERE is_published = true AND is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_posts_author_feed
+    ON posts (author_id, created_at DESC, id DESC)
+    WHERE is_published = true AND is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_posts_category_feed
+    ON posts (category_id, created_at DESC, id DESC)
+    WHERE is_published = true AND is_deleted = false;
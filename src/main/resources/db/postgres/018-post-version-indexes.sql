@@ -0,0 +1,14 @@
+-- The slug lookup for conditional GETs is in 025-post-render-version-index.sql.
+
+-- Newest modification within each published listing, for the listing ETags.
+CREATE INDEX IF NOT EXISTS idx_posts_published_updated
+    ON posts (updated_at DESC)
+    WHERE is_published = true AND is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_posts_author_updated
+    ON posts (author_id, updated_at DESC)
+    WHERE is_published = true AND is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_posts_category_updated
+    ON posts (category_id, updated_at DESC)
+    WHERE is_published = true AND is_deleted = false;
@@ -0,0 +1,2 @@
+-- Block numbers for SlugAllocator; each value reserves 100 slug ids for one instance.
+CREATE SEQUENCE IF NOT EXISTS post_slug_seq START WITH 1 INCREMENT BY 1;
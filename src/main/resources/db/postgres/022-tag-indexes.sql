@@ -0,0 +1,9 @@
+-- Tag feeds start from the tag: the primary key (post_id, tag_id) serves a post's tags,
+-- this index serves a tag's posts.
+CREATE INDEX IF NOT EXISTS idx_post_tag_links_tag
+    ON post_tag_links (tag_id, post_id);
+
+-- The tag cloud reads the first rows of this index instead of grouping all links.
+CREATE INDEX IF NOT EXISTS idx_tags_post_count
+    ON tags (post_count DESC, name)
+    WHERE post_count > 0;
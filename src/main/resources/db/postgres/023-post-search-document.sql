@@ -0,0 +1,21 @@
+-- Full-text search over posts: title weighs most, then summary, then content.
+-- Compressed posts (posts.content_deflated) have no content Postgres can read, so the
+-- application stores their content lexemes in content_vector; the generated document
+-- takes the content from there when it is set.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS content_vector tsvector;
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_document tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english'::regconfig, coalesce(summary, '')), 'B') ||
+        setweight(coalesce(content_vector, to_tsvector('english'::regconfig, coalesce(content, ''))), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_document ON posts USING GIN (search_document);
+
+-- Replaced by search_document; a generated column cannot be redefined in place.
+-- Dropping it also drops idx_posts_search_vector.
+ALTER TABLE posts DROP COLUMN IF EXISTS search_vector;
+
+-- Deflated content does not compress further; store it out of line without TOAST compression.
+ALTER TABLE posts ALTER COLUMN content_deflated SET STORAGE EXTERNAL;
@@ -0,0 +1,7 @@
+-- Conditional GETs read only a post's id, updated_at and render_version by slug;
+-- INCLUDE lets Postgres answer that from the index without visiting the table.
+CREATE INDEX IF NOT EXISTS idx_posts_slug_render_version
+    ON posts (slug) INCLUDE (id, updated_at, render_version);
+
+-- Replaced by the index above, which also covers render_version
+DROP INDEX IF EXISTS idx_posts_slug_version;
@@ -0,0 +1,4 @@
+-- Newest user change, polled by ListingRevisions and TokenVersionRegistry.
+-- Covers soft-deleted rows as well, since deletes bump updated_at first.
+CREATE INDEX IF NOT EXISTS idx_users_updated_at
+    ON users (updated_at);
@@ -0,0 +1,84 @@
+package com.qburst.blog_application.benchmark;
+
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.qburst.blog_application.service.jwt.JwtAlgorithm;
+import com.qburst.blog_application.service.jwt.SigningKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Sign and verify throughput of each supported access token algorithm, with the same
+ * claim set {@link com.qburst.blog_application.service.jwt.JwtService} produces.
+ * <p>
+ * Not part of the test run; start it through {@link #main} after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    private JwtAlgorithm algorithm;
+
+    private SigningKey signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = algorithm.generateKeyPair();
+        signingKey = SigningKey.of(algorithm, keyPair);
+        parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .id("benchmark-token-id")
+                .subject("author@example.com")
+                .claim("role", List.of("ROLE_USER", "ROLE_AUTHOR"))
+                .claim("uid", 42L)
+                .claim("ver", 3)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 30 * 60 * 1000))
+                .signWith(signingKey.privateKey(), algorithm.getSignatureAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtSigningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
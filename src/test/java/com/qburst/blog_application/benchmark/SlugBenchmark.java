@@ -0,0 +1,66 @@
+package com.qburst.blog_application.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.qburst.blog_application.service.post.slug.SlugAllocator;
+
+/**
+ * Cost of building a post slug in memory: the old regex + random UUID fragment against
+ * {@link SlugAllocator}'s precompiled normalizer + base-62 id.
+ * <p>
+ * The old generator additionally ran at least one {@code existsBySlug} query per post,
+ * which is not measured here; the allocator's only query is one {@code nextval} per
+ * block of ids. Not part of the test run; start it through {@link #main} after
+ * {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlugBenchmark {
+
+    @Param({
+            "Getting Started with Spring Boot",
+            "Crème brûlée: a déjà vu of 10 façades & naïve cafés",
+            "Построение REST API на Spring — полное руководство по безопасности и кэшированию"
+    })
+    private String title;
+
+    private long id = 916_132_832L;
+
+    @Benchmark
+    public String legacy() {
+        String baseSlug = title.toLowerCase()
+                .replaceAll("[^a-z0-9\\s]", "")
+                .replace(" ", "-");
+        return baseSlug + "-" + UUID.randomUUID().toString().substring(0, 5);
+    }
+
+    @Benchmark
+    public String allocator() {
+        return SlugAllocator.toSlug(title, id++);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SlugBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.qburst.blog_application.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.qburst.blog_application.config.HttpCacheProperties;
+import com.qburst.blog_application.service.post.Impl.PostServiceImpl;
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostVersion;
+import com.qburst.blog_application.service.post.export.PostExporter;
+import com.qburst.blog_application.service.post.importer.PostImportJob;
+
+import tools.jackson.databind.ObjectMapper;
+
+class PostControllerTests {
+
+    private static final PostVersion VERSION = new PostVersion(7L, LocalDateTime.of(2025, 3, 1, 12, 0), 1);
+    private static final byte[] JSON = "{\"id\":7}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP = {31, -117, 8, 0};
+
+    private final PostServiceImpl postService = mock(PostServiceImpl.class);
+    private MockMvc mockMvc;
+    private String etag;
+
+    @BeforeEach
+    void setUp() {
+        PostController controller = new PostController(postService,
+                new ConditionalResponses(new HttpCacheProperties(Map.of())),
+                mock(PostImportJob.class), mock(PostExporter.class), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        etag = ConditionalResponses.weakETag(VERSION.id(), VERSION.updatedAt(), VERSION.renderVersion());
+
+        when(postService.getPostVersion("hello")).thenReturn(Optional.of(VERSION));
+        when(postService.getRenderedPostBySlug(eq("hello"), eq(VERSION), anyString(), any()))
+                .thenReturn(new PostDetailBytesCache.Rendered(VERSION, JSON, GZIP));
+    }
+
+    @Test
+    void sendsGzipWhenAccepted() throws Exception {
+        mockMvc.perform(get("/posts/hello").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(GZIP));
+    }
+
+    @Test
+    void sendsIdentityWithoutAcceptEncoding() throws Exception {
+        mockMvc.perform(get("/posts/hello"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(JSON));
+    }
+
+    @Test
+    void sendsIdentityWhenGzipIsRefused() throws Exception {
+        mockMvc.perform(get("/posts/hello").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(JSON));
+    }
+
+    @Test
+    void revalidatesWithoutRenderingAndCountsTheView() throws Exception {
+        mockMvc.perform(get("/posts/hello")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(postService, never()).getRenderedPostBySlug(anyString(), any(), anyString(), any());
+        verify(postService).recordView(eq(7L), anyString(), any());
+    }
+}
@@ -0,0 +1,47 @@
+package com.qburst.blog_application.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.qburst.blog_application.dto.response.post.PostSearchResponse;
+
+class PostSearchRepositoryTests {
+
+    @Test
+    void escapesStoredMarkupAndKeepsHighlights() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("id")).thenReturn(1L);
+        when(row.getString("title_highlight")).thenReturn("<img src=x onerror=alert(1)> \u0002Spring\u0003");
+        when(row.getString("snippet")).thenReturn("<script>alert('x')</script> about \u0002spring\u0003 & more");
+
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> List.of(invocation.<RowMapper<?>>getArgument(2).mapRow(row, 0)));
+
+        Slice<PostSearchResponse> results = new PostSearchRepository(jdbcTemplate).search("spring", PageRequest.of(0, 10));
+
+        PostSearchResponse hit = results.getContent().get(0);
+        assertThat(hit.snippet())
+                .isEqualTo("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; about <mark>spring</mark> &amp; more");
+        assertThat(hit.titleHighlight())
+                .isEqualTo("&lt;img src=x onerror=alert(1)&gt; <mark>Spring</mark>");
+    }
+
+    @Test
+    void leavesMissingHeadlinesNull() {
+        assertThat(PostSearchRepository.toHighlightHtml(null)).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package com.qburst.blog_application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAttemptTrackerTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LoginAttemptTracker tracker =
+            new LoginAttemptTracker(5, 15, 15, 1000, jdbcTemplate, new SimpleMeterRegistry());
+
+    @Test
+    void keepsAttemptsWhoseWriteFailedForTheNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(new int[]{1});
+
+        tracker.recordFailure("alice");
+        tracker.recordFailure("alice");
+        tracker.flush();
+        tracker.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertThat(batches.getAllValues().get(1)).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly(2, null, "alice"));
+    }
+
+    @Test
+    void writesNothingOnceFlushed() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+
+        tracker.recordFailure("bob");
+        tracker.flush();
+        tracker.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,46 @@
+package com.qburst.blog_application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class OtpHasherTests {
+
+    private final OtpHasher hasher = new OtpHasher("test-secret");
+
+    @Test
+    void matchesTheOtpItHashed() {
+        String digest = hasher.hash("ada@example.com", "123456");
+
+        assertThat(digest).doesNotContain("123456");
+        assertThat(hasher.matches("ada@example.com", "123456", digest)).isTrue();
+        assertThat(hasher.matches("ada@example.com", "123457", digest)).isFalse();
+    }
+
+    @Test
+    void bindsTheDigestToTheEmailAddress() {
+        String digest = hasher.hash("ada@example.com", "123456");
+
+        assertThat(hasher.matches("eve@example.com", "123456", digest)).isFalse();
+    }
+
+    @Test
+    void dependsOnTheServerKey() {
+        String digest = hasher.hash("ada@example.com", "123456");
+
+        assertThat(new OtpHasher("test-secret").matches("ada@example.com", "123456", digest)).isTrue();
+        assertThat(new OtpHasher("other-secret").matches("ada@example.com", "123456", digest)).isFalse();
+    }
+
+    @Test
+    void rejectsAMissingDigest() {
+        assertThat(hasher.matches("ada@example.com", "123456", null)).isFalse();
+    }
+
+    @Test
+    void generatesSixDigitCodes() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(hasher.generateOtp()).matches("[1-9]\\d{5}");
+        }
+    }
+}
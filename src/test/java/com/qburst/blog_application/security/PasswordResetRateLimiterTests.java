@@ -0,0 +1,49 @@
+package com.qburst.blog_application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.qburst.blog_application.exception.auth.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordResetRateLimiterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordResetRateLimiter limiter = new PasswordResetRateLimiter(2, 3, 15, 1000, meterRegistry);
+
+    @Test
+    void limitsRequestsPerEmailRegardlessOfCase() {
+        limiter.acquire("ada@example.com", "10.0.0.1");
+        limiter.acquire(" ADA@example.com", "10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.acquire("ada@example.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.counter("auth.password_reset.rejected", "limit", "email").count()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsRequestsPerClientAcrossAccounts() {
+        limiter.acquire("a@example.com", "10.0.0.1");
+        limiter.acquire("b@example.com", "10.0.0.1");
+        limiter.acquire("c@example.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("d@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.counter("auth.password_reset.rejected", "limit", "client").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOtpSubmissionsApartFromRequests() {
+        limiter.acquire("ada@example.com", "10.0.0.1");
+        limiter.acquire("ada@example.com", "10.0.0.1");
+
+        limiter.acquireVerification("ada@example.com", "10.0.0.1");
+        limiter.acquireVerification("ada@example.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquireVerification("ada@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
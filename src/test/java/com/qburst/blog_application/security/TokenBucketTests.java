@@ -0,0 +1,44 @@
+package com.qburst.blog_application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofMinutes(15).toNanos());
+
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void refillsGradually() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1).toNanos());
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        // 0.6 s of a 1 s period at two permits per period regains 1.2 permits
+        Thread.sleep(600);
+
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void neverHoldsMoreThanItsCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMillis(100).toNanos());
+
+        Thread.sleep(300);
+
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+}
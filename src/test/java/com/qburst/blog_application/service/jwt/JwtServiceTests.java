@@ -0,0 +1,63 @@
+package com.qburst.blog_application.service.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtServiceTests {
+
+    private final SigningKey key = SigningKey.of(JwtAlgorithm.ES256, JwtAlgorithm.ES256.generateKeyPair());
+    private final JwtService jwtService = new JwtService(new SigningKeyRing(key, false, 3_600_000), 100);
+
+    @Test
+    void reusesTheVerificationOfARepeatedToken() {
+        String token = jwtService.generateAccessToken("ada", 7L, 3, List.of("ROLE_USER"), "session");
+
+        VerifiedToken first = jwtService.verify(token);
+
+        assertThat(jwtService.verify(token)).isSameAs(first);
+        assertThat(first.subject()).isEqualTo("ada");
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.userVersion()).isEqualTo(3);
+        assertThat(first.roles()).containsExactly("ROLE_USER");
+        assertThat(first.sessionId()).isEqualTo("session");
+        assertThat(first.tokenId()).isNotNull();
+    }
+
+    @Test
+    void dropsTheCachedVerificationWhenTheTokenExpires() throws InterruptedException {
+        // exp has second precision, so give the token at least one whole second
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = Jwts.builder()
+                .header().keyId(key.keyId()).and()
+                .subject("ada")
+                .expiration(new Date(expiresAt))
+                .signWith(key.privateKey(), key.algorithm().getSignatureAlgorithm())
+                .compact();
+
+        assertThat(jwtService.verify(token).subject()).isEqualTo("ada");
+
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 200);
+
+        assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void rejectsATamperedTokenEvenAfterTheOriginalWasCached() {
+        String token = jwtService.generateAccessToken("ada", 7L, 0, List.of("ROLE_USER"), null);
+        jwtService.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThatThrownBy(() -> jwtService.verify(forged)).isInstanceOf(SignatureException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.qburst.blog_application.service.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.qburst.blog_application.dto.response.auth.AuthResponse;
+import com.qburst.blog_application.entity.RefreshTokenEntity;
+import com.qburst.blog_application.exception.auth.InvalidRefreshTokenException;
+import com.qburst.blog_application.repository.RefreshTokenRepository;
+import com.qburst.blog_application.security.TokenDigest;
+import com.qburst.blog_application.service.user.TokenVersionRegistry;
+
+class RefreshTokenServiceTests {
+
+    private static final String PRESENTED = "presented-refresh-token";
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    private final JwtService jwtService = mock(JwtService.class);
+    private final TokenVersionRegistry tokenVersionRegistry = mock(TokenVersionRegistry.class);
+    private final RefreshTokenService service = new RefreshTokenService(repository, jwtService, tokenVersionRegistry, 14);
+
+    private final RefreshTokenEntity current = RefreshTokenEntity.builder()
+            .id(1L)
+            .tokenHash(TokenDigest.sha256(PRESENTED))
+            .familyId("family")
+            .userId(7L)
+            .username("ada")
+            .roles("ROLE_USER,ROLE_ADMIN")
+            .userVersion(2)
+            .createdAt(Instant.now().minus(Duration.ofDays(1)))
+            .expiresAt(Instant.now().plus(Duration.ofDays(13)))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findByTokenHash(TokenDigest.sha256(PRESENTED))).thenReturn(Optional.of(current));
+        when(tokenVersionRegistry.isCurrent(7L, 2)).thenReturn(true);
+        when(jwtService.generateAccessToken(anyString(), anyLong(), anyInt(), anyList(), anyString()))
+                .thenReturn("access-token");
+    }
+
+    @Test
+    void rotatesIntoANewTokenOfTheSameFamily() {
+        when(repository.markUsed(eq(1L), any())).thenReturn(1);
+
+        AuthResponse response = service.refresh(PRESENTED);
+
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(repository).save(saved.capture());
+        assertThat(response.getRefreshToken()).isNotEqualTo(PRESENTED);
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(TokenDigest.sha256(response.getRefreshToken()));
+        assertThat(saved.getValue().getFamilyId()).isEqualTo("family");
+        assertThat(response.getAccessToken()).isEqualTo("access-token");
+        verify(jwtService).generateAccessToken("ada", 7L, 2, List.of("ROLE_USER", "ROLE_ADMIN"), "family");
+        verify(repository, never()).revokeFamily(any());
+    }
+
+    @Test
+    void revokesTheFamilyWhenARotatedTokenIsPresentedAgain() {
+        current.setUsedAt(Instant.now().minusSeconds(60));
+
+        assertThatThrownBy(() -> service.refresh(PRESENTED))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("already been used");
+
+        verify(repository).revokeFamily("family");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void revokesTheFamilyWhenAConcurrentExchangeWonTheToken() {
+        when(repository.markUsed(eq(1L), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> service.refresh(PRESENTED)).isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(repository).revokeFamily("family");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void endsTheSessionWhenTheUserVersionMovedOn() {
+        when(tokenVersionRegistry.isCurrent(7L, 2)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.refresh(PRESENTED)).isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(repository).revokeFamily("family");
+        verify(repository, never()).markUsed(anyLong(), any());
+    }
+
+    @Test
+    void rejectsRevokedAndExpiredTokens() {
+        current.setRevoked(true);
+        assertThatThrownBy(() -> service.refresh(PRESENTED)).hasMessageContaining("revoked");
+
+        current.setRevoked(false);
+        current.setExpiresAt(Instant.now().minusSeconds(1));
+        assertThatThrownBy(() -> service.refresh(PRESENTED)).hasMessageContaining("expired");
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void rejectsUnknownTokens() {
+        assertThatThrownBy(() -> service.refresh("unknown")).isInstanceOf(InvalidRefreshTokenException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.qburst.blog_application.service.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+
+class SigningKeyRingTests {
+
+    private final SigningKey configured = SigningKey.of(JwtAlgorithm.ES256, JwtAlgorithm.ES256.generateKeyPair());
+
+    @Test
+    void signsWithTheActiveKeyAndNamesItInTheHeader() {
+        SigningKeyRing ring = new SigningKeyRing(configured, true, 3_600_000);
+        JwtService jwtService = new JwtService(ring, 100);
+
+        ring.rotate();
+        String token = jwtService.generateAccessToken("ada", 7L, 0, List.of("ROLE_USER"), null);
+
+        assertThat(ring.getActiveKey().keyId()).isNotEqualTo(configured.keyId());
+        assertThat(Jwts.parser().keyLocator(ring).build().parseSignedClaims(token).getHeader().getKeyId())
+                .isEqualTo(ring.getActiveKey().keyId());
+    }
+
+    @Test
+    void keepsVerifyingTokensOfARetiredKey() {
+        SigningKeyRing ring = new SigningKeyRing(configured, true, 3_600_000);
+        JwtService jwtService = new JwtService(ring, 100);
+        String token = jwtService.generateAccessToken("ada", 7L, 0, List.of("ROLE_USER"), null);
+
+        ring.rotate();
+
+        assertThat(ring.getVerificationKeys()).hasSize(2);
+        assertThat(new JwtService(ring, 100).verify(token).subject()).isEqualTo("ada");
+    }
+
+    @Test
+    void dropsRetiredKeysOnceTheirTokensHaveExpired() {
+        SigningKeyRing ring = new SigningKeyRing(configured, true, 0);
+        String token = new JwtService(ring, 100).generateAccessToken("ada", 7L, 0, List.of("ROLE_USER"), null);
+
+        ring.rotate();
+        ring.rotate();
+
+        assertThat(ring.getVerificationKeys()).extracting(SigningKey::keyId).doesNotContain(configured.keyId());
+        assertThatThrownBy(() -> new JwtService(ring, 100).verify(token))
+                .isInstanceOf(SignatureException.class)
+                .hasMessageContaining("Unknown signing key id");
+    }
+
+    @Test
+    void rejectsATokenWhoseAlgorithmDoesNotMatchItsKey() {
+        SigningKeyRing ring = new SigningKeyRing(configured, false, 3_600_000);
+        SigningKey other = SigningKey.of(JwtAlgorithm.EDDSA, JwtAlgorithm.EDDSA.generateKeyPair());
+
+        // Claims the trusted kid but is signed with a different algorithm and key
+        String token = Jwts.builder()
+                .header().keyId(configured.keyId()).and()
+                .subject("ada")
+                .signWith(other.privateKey(), other.algorithm().getSignatureAlgorithm())
+                .compact();
+
+        assertThatThrownBy(() -> new JwtService(ring, 100).verify(token))
+                .isInstanceOf(SignatureException.class)
+                .hasMessageContaining("does not match");
+    }
+
+    @Test
+    void checksTokensWithoutAKeyIdAgainstTheConfiguredKey() {
+        SigningKeyRing ring = new SigningKeyRing(configured, true, 3_600_000);
+        String legacy = Jwts.builder()
+                .subject("ada")
+                .signWith(configured.privateKey(), configured.algorithm().getSignatureAlgorithm())
+                .compact();
+
+        ring.rotate();
+
+        assertThat(new JwtService(ring, 100).verify(legacy).subject()).isEqualTo("ada");
+    }
+}
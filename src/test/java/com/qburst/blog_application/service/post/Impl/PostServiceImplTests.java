@@ -0,0 +1,94 @@
+package com.qburst.blog_application.service.post.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.qburst.blog_application.dto.request.post.PostRequest;
+import com.qburst.blog_application.entity.CategoryEntity;
+import com.qburst.blog_application.entity.PostEntity;
+import com.qburst.blog_application.entity.TagEntity;
+import com.qburst.blog_application.entity.UserEntity;
+import com.qburst.blog_application.mapper.PostMapper;
+import com.qburst.blog_application.repository.CategoryRepository;
+import com.qburst.blog_application.repository.PostRepository;
+import com.qburst.blog_application.repository.PostSearchRepository;
+import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.service.post.PostCardAssembler;
+import com.qburst.blog_application.service.post.PostCountRegistry;
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostDetailCache;
+import com.qburst.blog_application.service.post.PostViewCounter;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+import com.qburst.blog_application.service.post.render.MarkdownRenderer;
+import com.qburst.blog_application.service.post.slug.SlugAllocator;
+import com.qburst.blog_application.service.post.trending.TrendingPostRanker;
+import com.qburst.blog_application.service.support.ListingRevisions;
+import com.qburst.blog_application.service.tag.TagService;
+
+class PostServiceImplTests {
+
+    private static final LocalDateTime LAST_EDIT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final TagService tagService = mock(TagService.class);
+
+    private final PostServiceImpl service = new PostServiceImpl(postRepository, mock(PostSearchRepository.class),
+            mock(UserRepository.class), mock(CategoryRepository.class), mock(PostMapper.class),
+            mock(PostCountRegistry.class), mock(ListingRevisions.class), mock(PostViewCounter.class),
+            mock(PostCardAssembler.class), mock(TrendingPostRanker.class), mock(PostDetailCache.class),
+            mock(PostDetailBytesCache.class), mock(SlugAllocator.class), tagService,
+            mock(PostContentStorage.class), mock(MarkdownRenderer.class));
+
+    private final TagEntity java = new TagEntity(1L, "java", 1);
+    private final TagEntity spring = new TagEntity(2L, "spring", 1);
+
+    @Test
+    void movesUpdatedAtWhenOnlyTheTagsChange() {
+        PostEntity post = post(java);
+        when(tagService.intern(any())).thenReturn(Set.of(java, spring));
+
+        service.updatePost("hello", request(Set.of("java", "spring")));
+
+        assertThat(post.getTags()).containsExactlyInAnyOrder(java, spring);
+        assertThat(post.getUpdatedAt()).isAfter(LAST_EDIT);
+    }
+
+    @Test
+    void leavesUpdatedAtToHibernateWhenTheTagsAreUnchanged() {
+        PostEntity post = post(java);
+        when(tagService.intern(any())).thenReturn(Set.of(java));
+
+        service.updatePost("hello", request(Set.of("java")));
+
+        assertThat(post.getUpdatedAt()).isEqualTo(LAST_EDIT);
+    }
+
+    private PostEntity post(TagEntity... tags) {
+        PostEntity post = PostEntity.builder()
+                .id(1L)
+                .slug("hello")
+                .title("Hello world")
+                .isPublished(true)
+                .author(UserEntity.builder().id(7L).build())
+                .category(CategoryEntity.builder().id(3L).build())
+                .tags(new HashSet<>(Set.of(tags)))
+                .updatedAt(LAST_EDIT)
+                .build();
+        when(postRepository.findDetailBySlug("hello")).thenReturn(Optional.of(post));
+        when(postRepository.save(post)).thenReturn(post);
+        return post;
+    }
+
+    private static PostRequest request(Set<String> tags) {
+        return new PostRequest("Hello world", "text", null, 3L, tags, 7L, true, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.qburst.blog_application.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.qburst.blog_application.dto.response.post.PostResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostDetailCacheTests {
+
+    private final PostDetailCache cache = new PostDetailCache(100, 300, new SimpleMeterRegistry());
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void keepsTheEntryUntilTheTransactionCommits() {
+        cache.get("hello", slug -> post(slug));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit("hello");
+        assertThat(cache.getIfPresent("hello")).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.getIfPresent("hello")).isNull();
+    }
+
+    @Test
+    void keepsTheEntryWhenTheTransactionRollsBack() {
+        cache.get("hello", slug -> post(slug));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit("hello");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cache.getIfPresent("hello")).isNotNull();
+    }
+
+    @Test
+    void invalidatesImmediatelyOutsideATransaction() {
+        cache.get("hello", slug -> post(slug));
+
+        cache.invalidateAfterCommit("hello");
+
+        assertThat(cache.getIfPresent("hello")).isNull();
+    }
+
+    @Test
+    void loadsOncePerSlug() {
+        int[] loads = {0};
+        cache.get("hello", slug -> {
+            loads[0]++;
+            return post(slug);
+        });
+        cache.get("hello", slug -> {
+            loads[0]++;
+            return post(slug);
+        });
+
+        assertThat(loads[0]).isEqualTo(1);
+    }
+
+    private static PostResponse post(String slug) {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        return new PostResponse(1L, "Hello", slug, "text", "<p>text</p>", null, null, "General",
+                "Ada Lovelace", Set.of(), 0L, true, now, now, 1);
+    }
+}
@@ -0,0 +1,98 @@
+package com.qburst.blog_application.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.qburst.blog_application.service.post.trending.TrendingPostRanker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostViewCounterTests {
+
+    private static final String BROWSER = "Mozilla/5.0";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TrendingPostRanker trendingPostRanker = mock(TrendingPostRanker.class);
+    private final PostViewCounter counter = new PostViewCounter(jdbcTemplate, trendingPostRanker,
+            new SimpleMeterRegistry(), PostViewCounter.ShutdownMode.FLUSH,
+            "(?i)bot|crawl|spider", false, 1800, 1000);
+
+    @Test
+    void flushesOneDeltaPerPost() {
+        counter.recordView(1L, "addr:a", BROWSER);
+        counter.recordView(1L, "addr:b", BROWSER);
+        counter.recordView(2L, "addr:a", BROWSER);
+
+        counter.flush();
+
+        assertThat(flushedBatches()).singleElement()
+                .satisfies(batch -> assertThat(batch).containsExactly(List.of(2L, 1L), List.of(1L, 2L)));
+        verify(trendingPostRanker, times(2)).recordView(1L);
+    }
+
+    @Test
+    void skipsRepeatViewsBotsAndMissingUserAgents() {
+        counter.recordView(1L, "addr:a", BROWSER);
+        counter.recordView(1L, "addr:a", BROWSER);
+        counter.recordView(1L, "addr:b", "Googlebot/2.1");
+        counter.recordView(1L, "addr:c", null);
+
+        counter.flush();
+
+        assertThat(flushedBatches()).singleElement()
+                .satisfies(batch -> assertThat(batch).containsExactly(List.of(1L, 1L)));
+    }
+
+    @Test
+    void writesNothingWithoutViews() {
+        counter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void putsFailedDeltasBackForTheNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(new int[]{1});
+
+        counter.recordView(1L, "addr:a", BROWSER);
+        counter.recordView(1L, "addr:b", BROWSER);
+        counter.flush();
+
+        counter.recordView(1L, "addr:c", BROWSER);
+        counter.flush();
+
+        assertThat(flushedBatches()).hasSize(2)
+                .last()
+                .satisfies(batch -> assertThat(batch).containsExactly(List.of(3L, 1L)));
+    }
+
+    // Each batch as [views, postId] rows ordered by post id
+    private List<List<List<Object>>> flushedBatches() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeast(0)).batchUpdate(anyString(), batches.capture());
+        return batches.getAllValues().stream()
+                .map(batch -> batch.stream()
+                        .sorted(Comparator.comparingLong(row -> (Long) row[1]))
+                        .map(List::of)
+                        .toList())
+                .toList();
+    }
+}
@@ -0,0 +1,155 @@
+package com.qburst.blog_application.service.post.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qburst.blog_application.dto.response.post.PostImportChunkReport;
+import com.qburst.blog_application.dto.response.post.PostImportSummary;
+import com.qburst.blog_application.repository.CategoryRepository;
+import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.service.post.PostCountRegistry;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+import com.qburst.blog_application.service.post.render.MarkdownRenderer;
+import com.qburst.blog_application.service.post.slug.SlugAllocator;
+import com.qburst.blog_application.service.tag.TagService;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import tools.jackson.databind.ObjectMapper;
+
+class PostImportJobTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<List<String>> insertedBatches = new ArrayList<>();
+    private String rejectedTitle;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Records the titles of each batch; a batch containing rejectedTitle fails like a constraint violation
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keys = invocation.getArgument(2);
+
+            List<String> titles = new ArrayList<>();
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                PreparedStatement ps = mock(PreparedStatement.class);
+                setter.setValues(ps, i);
+                ArgumentCaptor<String> title = ArgumentCaptor.forClass(String.class);
+                verify(ps).setString(eq(1), title.capture());
+                titles.add(title.getValue());
+            }
+            if (titles.contains(rejectedTitle)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+
+            insertedBatches.add(titles);
+            for (int i = 0; i < titles.size(); i++) {
+                keys.getKeyList().add(new HashMap<>(Map.of("id", (long) insertedBatches.size() * 100 + i)));
+            }
+            return new int[titles.size()];
+        });
+    }
+
+    @Test
+    void cutsChunksByCharactersAsWellAsLines() {
+        String longContent = "x".repeat(400);
+        String input = line("one", longContent) + line("two", longContent) + line("three", longContent);
+
+        List<PostImportChunkReport> reports = new ArrayList<>();
+        PostImportSummary summary = job(1000, 500).run(new StringReader(input), reports::add);
+
+        assertThat(summary.imported()).isEqualTo(3);
+        assertThat(reports).extracting(PostImportChunkReport::firstLine).containsExactly(1L, 3L);
+        assertThat(insertedBatches).containsExactly(List.of("one", "two"), List.of("three"));
+    }
+
+    @Test
+    void reportsOnlyTheRowsThatFailToWrite() {
+        rejectedTitle = "bad";
+        String input = line("one", "body") + line("bad", "body") + line("three", "body");
+
+        List<PostImportChunkReport> reports = new ArrayList<>();
+        PostImportSummary summary = job(1000, 16_000_000).run(new StringReader(input), reports::add);
+
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(reports.get(0).errors()).singleElement()
+                .satisfies(error -> assertThat(error.line()).isEqualTo(2));
+        assertThat(insertedBatches).containsExactly(List.of("one"), List.of("three"));
+    }
+
+    @Test
+    void rejectsValuesTheColumnsWouldNot() {
+        String input = "{\"title\":\"ok\",\"content\":\"body\",\"author_id\":1,\"category_id\":1,\"image_url\":\""
+                + "h".repeat(256) + "\"}\n"
+                + "{\"title\":\"nul\",\"content\":\"a\\u0000b\",\"author_id\":1,\"category_id\":1}\n"
+                + line("fine", "body");
+
+        List<PostImportChunkReport> reports = new ArrayList<>();
+        PostImportSummary summary = job(1000, 16_000_000).run(new StringReader(input), reports::add);
+
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(reports.get(0).errors()).extracting(PostImportChunkReport.LineError::line).containsExactly(1L, 2L);
+        assertThat(insertedBatches).containsExactly(List.of("fine"));
+    }
+
+    private PostImportJob job(int chunkSize, long maxChunkChars) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findAllIdentities()).thenReturn(List.<Object[]>of(new Object[]{1L, "author", "author@example.com"}));
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllNames()).thenReturn(List.<Object[]>of(new Object[]{1L, "General"}));
+
+        SlugAllocator slugAllocator = mock(SlugAllocator.class);
+        when(slugAllocator.allocateAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        PostContentStorage postContentStorage = mock(PostContentStorage.class);
+        when(postContentStorage.encode(any())).thenAnswer(invocation ->
+                new PostContentStorage.Stored(invocation.getArgument(0), null));
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        Validator validator = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory()
+                .getValidator();
+
+        return new PostImportJob(jdbcTemplate, transactionTemplate, new ObjectMapper(), validator,
+                userRepository, categoryRepository, slugAllocator, mock(PostCountRegistry.class),
+                mock(TagService.class), postContentStorage, new MarkdownRenderer(),
+                chunkSize, maxChunkChars, 20, 1_000_000);
+    }
+
+    private static String line(String title, String content) {
+        return "{\"title\":\"" + title + "\",\"content\":\"" + content + "\",\"author_id\":1,\"category_id\":1}\n";
+    }
+}
@@ -0,0 +1,53 @@
+package com.qburst.blog_application.service.post.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MarkdownRendererTests {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void rendersMarkdown() {
+        assertThat(renderer.render("# Title\n\nSome **bold** text and a [link](https://example.com)."))
+                .contains("<h1>Title</h1>")
+                .contains("<strong>bold</strong>")
+                .contains("href=\"https://example.com\"");
+    }
+
+    @Test
+    void stripsScriptElements() {
+        String html = renderer.render("Hello\n\n<script>alert('x')</script>\n\nworld");
+
+        assertThat(html).doesNotContainIgnoringCase("<script").doesNotContain("alert(");
+        assertThat(html).contains("Hello").contains("world");
+    }
+
+    @Test
+    void stripsEventHandlers() {
+        String html = renderer.render("<img src=\"https://example.com/a.png\" onerror=\"alert(1)\">");
+
+        assertThat(html).doesNotContainIgnoringCase("onerror").contains("<img");
+    }
+
+    @Test
+    void stripsJavascriptUrls() {
+        String markdownLink = renderer.render("[click](javascript:alert(1))");
+        String htmlLink = renderer.render("<a href=\"JavaScript:alert(1)\">click</a>");
+
+        assertThat(markdownLink).doesNotContainIgnoringCase("javascript:").contains("click");
+        assertThat(htmlLink).doesNotContainIgnoringCase("javascript:").contains("click");
+    }
+
+    @Test
+    void keepsCodeLanguageClass() {
+        assertThat(renderer.render("```java\nint x;\n```"))
+                .contains("<code class=\"language-java\">");
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(renderer.render(null)).isNull();
+    }
+}
@@ -0,0 +1,87 @@
+package com.qburst.blog_application.service.post.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.qburst.blog_application.service.post.PostDetailBytesCache;
+import com.qburst.blog_application.service.post.PostDetailCache;
+import com.qburst.blog_application.service.post.content.PostContentStorage;
+
+class PostRenderJobTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostDetailCache postDetailCache = mock(PostDetailCache.class);
+    private final PostDetailBytesCache postDetailBytesCache = mock(PostDetailBytesCache.class);
+    private PostRenderJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        job = new PostRenderJob(jdbcTemplate, new MarkdownRenderer(), mock(PostContentStorage.class),
+                postDetailCache, postDetailBytesCache, Runnable::run, 500, 0);
+
+        List<ResultSet> rows = List.of(row(1, "first", "# One"), row(2, "edited", "# Two"));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenAnswer(invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> posts = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                posts.add(mapper.mapRow(rows.get(i), i));
+            }
+            return posts;
+        });
+    }
+
+    @Test
+    void skipsPostsAnEditHasAlreadyRendered() {
+        // The second row was rendered by an edit between the select and the update
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        assertThat(job.renderStale()).isEqualTo(1);
+
+        verify(postDetailCache).invalidateAfterCommit("first");
+        verify(postDetailBytesCache).invalidateAfterCommit("first");
+        verify(postDetailCache, never()).invalidateAfterCommit("edited");
+        verify(postDetailBytesCache, never()).invalidateAfterCommit("edited");
+    }
+
+    @Test
+    void updatesOnlyRowsStillBehindTheRendererWithoutTouchingUpdatedAt() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        job.renderStale();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+
+        assertThat(sql.getValue())
+                .contains("render_version IS NULL OR render_version < ?")
+                .doesNotContain("updated_at");
+        assertThat(args.getValue().get(0))
+                .containsExactly("<h1>One</h1>\n", MarkdownRenderer.VERSION, 1L, MarkdownRenderer.VERSION);
+    }
+
+    private static ResultSet row(long id, String slug, String content) throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("id")).thenReturn(id);
+        when(row.getString("slug")).thenReturn(slug);
+        when(row.getString("content")).thenReturn(content);
+        return row;
+    }
+}
@@ -0,0 +1,121 @@
+package com.qburst.blog_application.service.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.qburst.blog_application.service.jwt.VerifiedToken;
+
+class TokenRevocationServiceTests {
+
+    private static final List<String> REVOKED = IntStream.range(0, 20).mapToObj(i -> "jti-" + i).toList();
+
+    private final RevocationStore store = mock(RevocationStore.class);
+
+    @Test
+    void answersFilterMissesWithoutTheStore() {
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 100_000, 0.01));
+
+        assertThat(service.isRevoked("never-revoked")).isFalse();
+        verify(store, never()).isRevoked(any());
+    }
+
+    @Test
+    void checksTheStoreOnAFalsePositive() {
+        // A tiny, saturated filter, so some unrevoked keys are bound to hit it
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 1, 0.5));
+        String falsePositive = falsePositive(new BloomFilter(1, 0.5));
+
+        assertThat(service.isRevoked(falsePositive)).isFalse();
+        verify(store).isRevoked(falsePositive);
+    }
+
+    @Test
+    void remembersConfirmedRevocations() {
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 100_000, 0.01));
+        when(store.isRevoked("jti-1")).thenReturn(true);
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+        assertThat(service.isRevoked("jti-1")).isTrue();
+        verify(store, times(1)).isRevoked("jti-1");
+    }
+
+    @Test
+    void revokesByTokenId() {
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 100_000, 0.01));
+        Instant expiry = Instant.now().plus(Duration.ofMinutes(30));
+
+        service.revoke("jti-new", expiry);
+
+        verify(store).revoke("jti-new", expiry);
+        assertThat(service.isRevoked(token("jti-new", 7L, Instant.now()))).isTrue();
+        assertThat(service.isRevoked(token("jti-other", 7L, Instant.now()))).isFalse();
+        verify(store, never()).isRevoked("jti-new");
+    }
+
+    @Test
+    void revokesTokensIssuedBeforeTheWatermark() {
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 100_000, 0.01));
+        Instant notBefore = Instant.now();
+
+        service.revokeAllBefore(7L, notBefore, Duration.ofMinutes(30));
+
+        verify(store).setWatermark(7L, notBefore, notBefore.plus(Duration.ofMinutes(30)));
+        assertThat(service.isRevoked(token("jti-a", 7L, notBefore.minusSeconds(60)))).isTrue();
+        assertThat(service.isRevoked(token("jti-b", 7L, notBefore.plusSeconds(1)))).isFalse();
+        assertThat(service.isRevoked(token("jti-c", 8L, notBefore.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadsWatermarksSetOnOtherNodes() {
+        Instant notBefore = Instant.now();
+        doAnswer(invocation -> {
+            invocation.<BiConsumer<Long, Instant>>getArgument(0).accept(7L, notBefore);
+            return null;
+        }).when(store).forEachActiveWatermark(any(BiConsumer.class));
+
+        TokenRevocationService service = warmedUp(new TokenRevocationService(store, 100_000, 0.01));
+
+        assertThat(service.isRevoked(token("jti-a", 7L, notBefore.minusSeconds(60)))).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private TokenRevocationService warmedUp(TokenRevocationService service) {
+        doAnswer(invocation -> {
+            REVOKED.forEach(invocation.<Consumer<String>>getArgument(0));
+            return null;
+        }).when(store).forEachActive(any(Consumer.class));
+        service.warmUp();
+        return service;
+    }
+
+    // Filters of equal sizing hash identically, so a key that hits this copy hits the service's too
+    private static String falsePositive(BloomFilter copy) {
+        REVOKED.forEach(copy::put);
+        return IntStream.range(0, 10_000)
+                .mapToObj(i -> "other-" + i)
+                .filter(copy::mightContain)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static VerifiedToken token(String tokenId, Long userId, Instant issuedAt) {
+        return new VerifiedToken("digest-" + tokenId, tokenId, "ada", userId, 0, List.of(), null,
+                issuedAt, issuedAt.plus(Duration.ofMinutes(30)), null);
+    }
+}
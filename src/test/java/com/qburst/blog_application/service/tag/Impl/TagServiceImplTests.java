@@ -0,0 +1,116 @@
+package com.qburst.blog_application.service.tag.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.qburst.blog_application.dto.response.tag.TagCountResponse;
+import com.qburst.blog_application.entity.TagEntity;
+import com.qburst.blog_application.repository.TagRepository;
+
+class TagServiceImplTests {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TagServiceImpl tagService = new TagServiceImpl(tagRepository, jdbcTemplate, 100, 60);
+
+    @Test
+    void internsNormalizedNamesAndInsertsOnlyMissingOnes() {
+        TagEntity java = tag(1L, "java");
+        TagEntity springBoot = tag(2L, "spring boot");
+        when(tagRepository.findByNameIn(Set.of("java", "spring boot"))).thenReturn(List.of(java));
+        when(tagRepository.findByNameIn(Set.of("spring boot"))).thenReturn(List.of(springBoot));
+
+        Set<TagEntity> tags = tagService.intern(List.of(" Java", "JAVA", "Spring \t Boot", "  "));
+
+        assertThat(tags).containsExactlyInAnyOrder(java, springBoot);
+        assertThat(insertedNames()).containsExactly("spring boot");
+    }
+
+    @Test
+    void insertsNewTagsInNameOrder() {
+        when(tagRepository.findByNameIn(any())).thenReturn(List.of());
+
+        tagService.intern(List.of("zebra", "Apple", "mango"));
+
+        assertThat(insertedNames()).containsExactly("apple", "mango", "zebra");
+    }
+
+    @Test
+    void internsNothingForBlankNames() {
+        assertThat(tagService.intern(List.of(" ", "\t"))).isEmpty();
+
+        verifyNoInteractions(tagRepository, jdbcTemplate);
+    }
+
+    @Test
+    void adjustsCountsOfChangedTagsInIdOrder() {
+        TagEntity a = tag(3L, "a");
+        TagEntity b = tag(1L, "b");
+        TagEntity c = tag(2L, "c");
+
+        tagService.recordPublished(List.of(a, b), List.of(b, c));
+
+        assertThat(countBatch()).containsExactly(List.of(1L, 2L), List.of(-1L, 3L));
+    }
+
+    @Test
+    void skipsTheUpdateWhenNoCountChanges() {
+        TagEntity a = tag(1L, "a");
+
+        tagService.recordPublished(List.of(a), List.of(a));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void reloadsTheCloudAfterCountsChange() {
+        when(tagRepository.findTopByPostCount(any(Pageable.class)))
+                .thenReturn(List.of(new TagCountResponse("java", 2L)))
+                .thenReturn(List.of(new TagCountResponse("java", 3L)));
+
+        assertThat(tagService.getTagCloud(10)).containsExactly(new TagCountResponse("java", 2L));
+        assertThat(tagService.getTagCloud(10)).containsExactly(new TagCountResponse("java", 2L));
+
+        tagService.adjustPostCounts(Map.of(1L, 1L));
+
+        assertThat(tagService.getTagCloud(10)).containsExactly(new TagCountResponse("java", 3L));
+        verify(tagRepository, times(2)).findTopByPostCount(any(Pageable.class));
+    }
+
+    private List<Object> insertedNames() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO tags (name, post_count) VALUES (?, 0) ON CONFLICT (name) DO NOTHING"),
+                batch.capture());
+        return batch.getValue().stream().map(args -> args[0]).toList();
+    }
+
+    private List<List<Object>> countBatch() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE tags SET post_count = post_count + ? WHERE id = ?"), batch.capture());
+        return batch.getValue().stream().map(List::of).toList();
+    }
+
+    private static TagEntity tag(Long id, String name) {
+        return TagEntity.builder().id(id).name(name).build();
+    }
+}
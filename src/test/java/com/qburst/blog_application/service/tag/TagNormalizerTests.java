@@ -0,0 +1,31 @@
+package com.qburst.blog_application.service.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TagNormalizerTests {
+
+    @Test
+    void trimsCollapsesWhitespaceAndLowerCases() {
+        assertThat(TagNormalizer.normalize("  Spring \t\n Boot  ")).isEqualTo("spring boot");
+    }
+
+    @Test
+    void trimsUnicodeSpaces() {
+        assertThat(TagNormalizer.normalize("\u00A0Spring\u2003Boot\u00A0")).isEqualTo("spring boot");
+    }
+
+    @Test
+    void cutsLongNamesWithoutTrailingSpace() {
+        String name = "a".repeat(49) + " b";
+
+        assertThat(TagNormalizer.normalize(name)).isEqualTo("a".repeat(49));
+    }
+
+    @Test
+    void returnsNullWhenNothingIsLeft() {
+        assertThat(TagNormalizer.normalize(" \t ")).isNull();
+        assertThat(TagNormalizer.normalize(null)).isNull();
+    }
+}
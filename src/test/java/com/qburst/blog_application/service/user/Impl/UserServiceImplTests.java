@@ -0,0 +1,104 @@
+package com.qburst.blog_application.service.user.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.qburst.blog_application.entity.UserEntity;
+import com.qburst.blog_application.exception.auth.InvalidOtpException;
+import com.qburst.blog_application.mapper.UserMapper;
+import com.qburst.blog_application.repository.UserRepository;
+import com.qburst.blog_application.security.OtpHasher;
+import com.qburst.blog_application.security.PasswordResetRateLimiter;
+import com.qburst.blog_application.service.jwt.RefreshTokenService;
+import com.qburst.blog_application.service.revocation.TokenRevocationService;
+import com.qburst.blog_application.service.user.TokenVersionRegistry;
+
+class UserServiceImplTests {
+
+    private static final String EMAIL = "ada@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+    private final PasswordResetRateLimiter rateLimiter = mock(PasswordResetRateLimiter.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final TokenVersionRegistry tokenVersionRegistry = mock(TokenVersionRegistry.class);
+    private final OtpHasher otpHasher = new OtpHasher("test-secret");
+
+    private final UserServiceImpl service = new UserServiceImpl(mock(UserMapper.class),
+            mock(TokenRevocationService.class), tokenVersionRegistry);
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "refreshTokenService", refreshTokenService);
+        ReflectionTestUtils.setField(service, "passwordResetRateLimiter", rateLimiter);
+        ReflectionTestUtils.setField(service, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(service, "otpHasher", otpHasher);
+
+        user = UserEntity.builder()
+                .id(7L)
+                .email(EMAIL)
+                .otp(otpHasher.hash(EMAIL, "123456"))
+                .otpExpiry(LocalDateTime.now().plusMinutes(10))
+                .tokenVersion(4)
+                .build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        when(passwordEncoder.encode("new-password")).thenReturn("encoded");
+    }
+
+    @Test
+    void rejectsWithoutCheckingTheCodeOnceTheAttemptsAreSpent() {
+        when(userRepository.claimOtpAttempt(7L, user.getOtp(), 5)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.resetPassword(EMAIL, "123456", "new-password", "10.0.0.1"))
+                .isInstanceOf(InvalidOtpException.class);
+
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void discardsTheCodeAfterAWrongGuessIfTheAttemptsAreSpent() {
+        String otp = user.getOtp();
+        when(userRepository.claimOtpAttempt(7L, otp, 5)).thenReturn(1);
+
+        assertThatThrownBy(() -> service.resetPassword(EMAIL, "654321", "new-password", "10.0.0.1"))
+                .isInstanceOf(InvalidOtpException.class);
+
+        verify(userRepository).discardSpentOtp(7L, otp, 5);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void retiresSessionsAndAccessTokensOnSuccess() {
+        when(userRepository.claimOtpAttempt(7L, user.getOtp(), 5)).thenReturn(1);
+
+        service.resetPassword(EMAIL, "123456", "new-password", "10.0.0.1");
+
+        assertThat(user.getPassword()).isEqualTo("encoded");
+        assertThat(user.getOtp()).isNull();
+        assertThat(user.getTokenVersion()).isEqualTo(5);
+        verify(rateLimiter).acquireVerification(EMAIL, "10.0.0.1");
+        verify(refreshTokenService).revokeAllSessions(7L);
+        verify(tokenVersionRegistry).update(7L, 5);
+        verify(userRepository, never()).discardSpentOtp(anyLong(), anyString(), anyInt());
+    }
+}